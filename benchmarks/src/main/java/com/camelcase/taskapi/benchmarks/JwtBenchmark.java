@@ -0,0 +1,101 @@
+package com.camelcase.taskapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.camelcase.taskapi.security.JwtAuthenticator;
+import com.camelcase.taskapi.security.JwtTokenCache;
+import com.camelcase.taskapi.security.JwtUtil;
+import com.camelcase.taskapi.security.UserStore;
+
+/**
+ * Token work per request: issuing (login), verifying from scratch, and the cached path every
+ * authenticated request takes through {@link JwtAuthenticator}.
+ *
+ * authenticateHashingPerLookup is the token check as it was before {@link UserStore}: the user details
+ * service BCrypt-encoded the admin password (default strength) on every lookup. It is the baseline
+ * that authenticateCached is compared against.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-32-characters-long";
+
+    private JwtUtil jwtUtil;
+    private JwtTokenCache jwtTokenCache;
+    private JwtAuthenticator jwtAuthenticator;
+    private UserDetailsService hashingPerLookup;
+    private String token;
+    private String authHeader;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        UserStore userStore = new UserStore("admin", "BlueSky", new BCryptPasswordEncoder(4));
+        jwtTokenCache = new JwtTokenCache(jwtUtil, 10_000);
+        jwtAuthenticator = new JwtAuthenticator(jwtTokenCache, userStore);
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        hashingPerLookup = username -> User.withUsername("admin")
+                .password(passwordEncoder.encode("BlueSky"))
+                .roles("USER")
+                .build();
+        token = jwtUtil.generateToken("admin");
+        authHeader = "Bearer " + token;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("admin");
+    }
+
+    // Signature check and claims parsing, what a cache miss costs
+    @Benchmark
+    public String getUsername() {
+        return jwtUtil.getUsername(token);
+    }
+
+    // Cache hit plus principal lookup
+    @Benchmark
+    public Authentication authenticateCached() {
+        return jwtAuthenticator.authenticate(authHeader);
+    }
+
+    // Cache hit plus a BCrypt hash per lookup, the path every request took before UserStore
+    @Benchmark
+    public Authentication authenticateHashingPerLookup() {
+        UserDetails userDetails = hashingPerLookup.loadUserByUsername(jwtTokenCache.getUsername(token));
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    @Benchmark
+    public boolean isPublicEndpointProtected() {
+        return jwtAuthenticator.isPublicEndpoint("/tasks/42");
+    }
+
+    @Benchmark
+    public boolean isPublicEndpointPublic() {
+        return jwtAuthenticator.isPublicEndpoint("/swagger-ui/index.html");
+    }
+}
@@ -0,0 +1,58 @@
+package com.camelcase.taskapi.benchmarks;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.camelcase.taskapi.mapper.TaskMapper;
+import com.camelcase.taskapi.mapper.TaskMapperImpl;
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+
+// Entity <-> DTO mapping done for every task of every response and every write
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    private TaskMapper taskMapper;
+    private TaskEntity taskEntity;
+    private TaskCreateRequest createRequest;
+
+    @Setup
+    public void setUp() {
+        taskMapper = new TaskMapperImpl();
+        taskEntity = new TaskEntity(42L, "Write benchmarks", "Measure the per-request costs",
+                TaskStatusEnum.IN_PROGRESS, LocalDate.of(2025, 4, 1));
+        createRequest = new TaskCreateRequest();
+        createRequest.setTitle("Write benchmarks");
+        createRequest.setDescription("Measure the per-request costs");
+        createRequest.setTaskStatus(TaskCreateRequest.TaskStatusEnum.PENDING);
+        createRequest.setDueDate(LocalDate.of(2025, 4, 1));
+    }
+
+    @Benchmark
+    public Task toDto() {
+        return taskMapper.toDto(taskEntity);
+    }
+
+    @Benchmark
+    public TaskEntity toEntity() {
+        return taskMapper.toEntity(createRequest);
+    }
+}
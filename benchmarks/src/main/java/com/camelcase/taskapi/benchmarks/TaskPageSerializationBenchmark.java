@@ -0,0 +1,71 @@
+package com.camelcase.taskapi.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskPage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// Writing a GET /tasks response body, with the modules and date format Spring Boot configures
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskPageSerializationBenchmark {
+
+    @Param({ "10", "100" })
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private TaskPage taskPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new JsonNullableModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<Task> tasks = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Task task = new Task();
+            task.setId(String.valueOf(i + 1));
+            task.setTitle("Task " + i);
+            task.setDescription("Description of task " + i);
+            task.setTaskStatus(Task.TaskStatusEnum.PENDING);
+            task.setDueDate(LocalDate.of(2025, 4, 1).plusDays(i));
+            tasks.add(task);
+        }
+        taskPage = new TaskPage();
+        taskPage.setTasks(tasks);
+        taskPage.setTotalItems(1000);
+        taskPage.setTotalPages(1000 / pageSize);
+        taskPage.setHasNext(true);
+    }
+
+    @Benchmark
+    public byte[] writeTaskPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(taskPage);
+    }
+}
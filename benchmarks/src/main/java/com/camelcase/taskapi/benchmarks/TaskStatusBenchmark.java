@@ -0,0 +1,46 @@
+package com.camelcase.taskapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+
+// Status parsing of every filtered list request; an invalid value costs an exception
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskStatusBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        // Lower case as sent by clients, upper case as stored
+        @Param({ "pending", "IN_PROGRESS" })
+        public String status;
+    }
+
+    @Benchmark
+    public TaskStatusEnum fromString(Input input) {
+        return TaskStatusEnum.fromString(input.status);
+    }
+
+    @Benchmark
+    public Object fromStringInvalid() {
+        try {
+            return TaskStatusEnum.fromString("archived");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
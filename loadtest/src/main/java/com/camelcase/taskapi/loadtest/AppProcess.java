@@ -0,0 +1,81 @@
+package com.camelcase.taskapi.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The application under test, started from its jar with the default embedded H2 database and
+ * {@code tasks.seed.count} generated tasks, its output going to a log file. Seeding a million tasks and
+ * indexing them for search takes a while, and the server already answers meanwhile, so readiness is polled
+ * through the readiness health group.
+ */
+public class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(10);
+
+    private final Process process;
+    private final String baseUrl;
+
+    private AppProcess(Process process, String baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    public static AppProcess start(String jar, String baseUrl, long tasks, String[] appArgs, Path log) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar);
+        command.add("--tasks.seed.count=" + tasks);
+        int port = URI.create(baseUrl).getPort();
+        if (port != -1) {
+            command.add("--server.port=" + port);
+        }
+        command.addAll(Arrays.asList(appArgs));
+
+        File logFile = log.toFile();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile)
+                .start();
+        return new AppProcess(process, baseUrl);
+    }
+
+    // Returns the token of the login that found the application ready
+    public String awaitReady(HttpClient httpClient, TaskApiCalls calls) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + " during startup");
+            }
+            try {
+                String token = LoadTest.login(httpClient, calls);
+                HttpRequest readiness = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                        .header("Authorization", "Bearer " + token)
+                        .build();
+                if (httpClient.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return token;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Not listening or not seeded yet
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("Application not ready after " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+}
@@ -0,0 +1,82 @@
+package com.camelcase.taskapi.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies of one run, one HdrHistogram (microseconds, 3 significant digits) and error count per
+ * operation. Each worker fills its own report; they are merged once the run is over, so recording
+ * needs no synchronization.
+ */
+public class LatencyReport {
+
+    private final Map<String, Histogram> histograms = new TreeMap<>();
+    private final Map<String, Long> errors = new TreeMap<>();
+
+    public void record(String operation, long latencyNanos, boolean ok) {
+        histograms.computeIfAbsent(operation, name -> new Histogram(3)).recordValue(Math.max(latencyNanos / 1000, 1));
+        if (!ok) {
+            errors.merge(operation, 1L, Long::sum);
+        }
+    }
+
+    public void add(LatencyReport other) {
+        other.histograms.forEach((operation, histogram) -> histograms.computeIfAbsent(operation, name -> new Histogram(3)).add(histogram));
+        other.errors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+    }
+
+    public long errors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public void print(PrintStream out, Duration duration) {
+        out.printf("%-18s %9s %7s %9s %9s %9s %9s %9s%n", "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        rows(duration).forEach(row -> out.printf("%-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                row.operation, row.requests, row.errors, row.throughput, row.p50, row.p99, row.p999, row.max));
+    }
+
+    public void writeCsv(Path path, Duration duration) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("operation,requests,errors,throughput,p50_ms,p99_ms,p999_ms,max_ms");
+        rows(duration).forEach(row -> lines.add(String.format("%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f",
+                row.operation, row.requests, row.errors, row.throughput, row.p50, row.p99, row.p999, row.max)));
+        Files.write(path, lines);
+    }
+
+    // One row per operation and a last one over all requests
+    private List<Row> rows(Duration duration) {
+        List<Row> rows = new ArrayList<>();
+        Histogram total = new Histogram(3);
+        histograms.forEach((operation, histogram) -> {
+            rows.add(Row.of(operation, histogram, errors.getOrDefault(operation, 0L), duration));
+            total.add(histogram);
+        });
+        rows.add(Row.of("total", total, errors(), duration));
+        return rows;
+    }
+
+    private record Row(String operation, long requests, long errors, double throughput, double p50, double p99, double p999, double max) {
+
+        static Row of(String operation, Histogram histogram, long errors, Duration duration) {
+            return new Row(operation, histogram.getTotalCount(), errors,
+                    histogram.getTotalCount() * 1000.0 / duration.toMillis(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.camelcase.taskapi.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Entry point of loadtest.jar: optionally starts the application with a seeded embedded database, runs
+ * the weighted operation mix from {@code --threads} clients for the warmup and the measured duration,
+ * and prints throughput and latency percentiles per operation. Exits with 1 if any measured call failed.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = new LoadTestOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE + "\nDefault mix: " + TaskApiCalls.DEFAULT_MIX);
+            System.exit(2);
+            return;
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        TaskApiCalls calls = new TaskApiCalls(options.baseUrl(), options.tasks(), options.username(), options.password());
+
+        LatencyReport report;
+        if (options.appJar() != null) {
+            Path log = Files.createTempFile("taskapi-", ".log");
+            System.out.printf("Starting %s with %d seeded tasks, log in %s%n", options.appJar(), options.tasks(), log.toAbsolutePath());
+            try (AppProcess app = AppProcess.start(options.appJar(), options.baseUrl(), options.tasks(), options.appArgs(), log)) {
+                calls.setToken(app.awaitReady(httpClient, calls));
+                report = run(options, httpClient, calls);
+            }
+        } else {
+            calls.setToken(login(httpClient, calls));
+            report = run(options, httpClient, calls);
+        }
+
+        report.print(System.out, options.duration());
+        if (options.csv() != null) {
+            report.writeCsv(Path.of(options.csv()), options.duration());
+        }
+        System.exit(report.errors() > 0 ? 1 : 0);
+    }
+
+    private static LatencyReport run(LoadTestOptions options, HttpClient httpClient, TaskApiCalls calls) throws InterruptedException {
+        List<String> operations = new ArrayList<>();
+        options.mix(TaskApiCalls.DEFAULT_MIX).forEach((operation, weight) -> operations.addAll(Collections.nCopies(weight, operation)));
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Every operation of the mix has weight 0");
+        }
+        int threads = options.threads();
+        long intervalNanos = options.rate() > 0 ? (long) (threads * 1_000_000_000L / options.rate()) : 0;
+
+        System.out.printf("%d clients, %s, warmup %ds, measuring %ds against %s%n", threads,
+                intervalNanos > 0 ? options.rate() + " requests/s" : "no rate limit",
+                options.warmup().toSeconds(), options.duration().toSeconds(), options.baseUrl());
+
+        long measureFrom = System.nanoTime() + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        List<LoadWorker> workers = new ArrayList<>();
+        List<Thread> workerThreads = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            // Every client has its own sequence, so the same seed and thread count repeat the same requests
+            LoadWorker worker = new LoadWorker(httpClient, calls, operations, new Random(options.randomSeed() + i),
+                    intervalNanos, measureFrom, end);
+            Thread thread = new Thread(worker, "load-" + i);
+            thread.start();
+            workers.add(worker);
+            workerThreads.add(thread);
+        }
+        for (Thread thread : workerThreads) {
+            thread.join();
+        }
+
+        LatencyReport report = new LatencyReport();
+        workers.forEach(worker -> report.add(worker.report()));
+        return report;
+    }
+
+    static String login(HttpClient httpClient, TaskApiCalls calls) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(calls.login().request(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with " + response.statusCode());
+        }
+        return calls.parse(response.body()).get("access_token").asText();
+    }
+}
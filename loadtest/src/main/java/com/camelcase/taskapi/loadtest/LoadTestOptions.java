@@ -0,0 +1,124 @@
+package com.camelcase.taskapi.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command line of loadtest.jar, {@code --name=value} pairs. Unknown names are rejected so a typo does
+ * not silently run the defaults.
+ */
+public class LoadTestOptions {
+
+    static final String USAGE = """
+            Usage: java -jar loadtest.jar [--name=value ...]
+
+              --base-url=URL      application to load (default http://localhost:8080)
+              --app-jar=PATH      start this application jar with an embedded database first, and stop it afterwards
+              --app-args=ARGS     extra arguments for the started application, space separated
+              --tasks=N           seeded tasks: passed as tasks.seed.count to a started application, and
+                                  the id range read requests pick from (default 1000000)
+              --threads=N         concurrent clients (default 32)
+              --warmup=SECONDS    run before measuring (default 30)
+              --duration=SECONDS  measured run (default 60)
+              --rate=N            total requests per second, spread over the clients; latency is then measured
+                                  from when each request was due, not when it was sent (default 0 = as fast as possible)
+              --mix=NAME:WEIGHT,...  operation weights, see the defaults below; weight 0 disables one
+              --username=NAME     (default admin)
+              --password=SECRET   (default BlueSky)
+              --random-seed=N     seed of the request choices, same seed = same requests (default 42)
+              --csv=PATH          also write the report as CSV
+            """;
+
+    private final Map<String, String> values = new HashMap<>(Map.of(
+            "base-url", "http://localhost:8080",
+            "tasks", "1000000",
+            "threads", "32",
+            "warmup", "30",
+            "duration", "60",
+            "rate", "0",
+            "username", "admin",
+            "password", "BlueSky",
+            "random-seed", "42"));
+
+    public LoadTestOptions(String[] args) {
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, equals);
+            if (!USAGE.contains("--" + name + "=")) {
+                throw new IllegalArgumentException("Unknown option --" + name);
+            }
+            values.put(name, arg.substring(equals + 1));
+        }
+    }
+
+    public String baseUrl() {
+        return values.get("base-url");
+    }
+
+    public String appJar() {
+        return values.get("app-jar");
+    }
+
+    public String[] appArgs() {
+        String appArgs = values.getOrDefault("app-args", "").trim();
+        return appArgs.isEmpty() ? new String[0] : appArgs.split("\\s+");
+    }
+
+    public long tasks() {
+        return Long.parseLong(values.get("tasks"));
+    }
+
+    public int threads() {
+        return Integer.parseInt(values.get("threads"));
+    }
+
+    public Duration warmup() {
+        return Duration.ofSeconds(Long.parseLong(values.get("warmup")));
+    }
+
+    public Duration duration() {
+        return Duration.ofSeconds(Long.parseLong(values.get("duration")));
+    }
+
+    public double rate() {
+        return Double.parseDouble(values.get("rate"));
+    }
+
+    public String username() {
+        return values.get("username");
+    }
+
+    public String password() {
+        return values.get("password");
+    }
+
+    public long randomSeed() {
+        return Long.parseLong(values.get("random-seed"));
+    }
+
+    public String csv() {
+        return values.get("csv");
+    }
+
+    // The default weights with the --mix overrides applied
+    public Map<String, Integer> mix(Map<String, Integer> defaults) {
+        Map<String, Integer> mix = new LinkedHashMap<>(defaults);
+        String overrides = values.get("mix");
+        if (overrides == null) {
+            return mix;
+        }
+        for (String entry : overrides.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2 || !mix.containsKey(parts[0].trim())) {
+                throw new IllegalArgumentException("Unknown mix entry " + entry + ", operations are " + defaults.keySet());
+            }
+            mix.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,100 @@
+package com.camelcase.taskapi.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+import com.camelcase.taskapi.loadtest.TaskApiCalls.Call;
+
+/**
+ * One client of the load: sends a call, waits for the response, sends the next one.
+ *
+ * Without a target rate each call goes out as soon as the previous one is answered (closed model); the
+ * measured throughput is then what the application sustains, but a stall delays the calls that would have
+ * been sent meanwhile and hides their wait from the percentiles. With a rate, calls are due at fixed
+ * intervals and each latency counts from when the call was due, so a stall shows up in every call it
+ * held back.
+ */
+public class LoadWorker implements Runnable {
+
+    private final HttpClient httpClient;
+    private final TaskApiCalls calls;
+    private final List<String> operations;
+    private final Random random;
+    private final long intervalNanos;
+    private final long measureFrom;
+    private final long end;
+    private final LatencyReport report = new LatencyReport();
+    private final Deque<Call> followUps = new ArrayDeque<>();
+
+    /**
+     * @param operations    operation names to pick from uniformly, each repeated by its weight
+     * @param intervalNanos time between two calls, 0 to send them back to back
+     * @param measureFrom   System.nanoTime() at which the warmup ends
+     * @param end           System.nanoTime() at which the run ends
+     */
+    public LoadWorker(HttpClient httpClient, TaskApiCalls calls, List<String> operations, Random random,
+                      long intervalNanos, long measureFrom, long end) {
+        this.httpClient = httpClient;
+        this.calls = calls;
+        this.operations = operations;
+        this.random = random;
+        this.intervalNanos = intervalNanos;
+        this.measureFrom = measureFrom;
+        this.end = end;
+    }
+
+    @Override
+    public void run() {
+        long due = System.nanoTime();
+        // An overloaded application leaves calls due before the end unsent; they are dropped, not sent late
+        while (due < end && System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+            if (intervalNanos > 0) {
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                due = System.nanoTime();
+            }
+
+            Call call = followUps.isEmpty() ? calls.next(operations.get(random.nextInt(operations.size())), random) : followUps.poll();
+            boolean ok = send(call);
+            if (due >= measureFrom) {
+                report.record(call.operation(), System.nanoTime() - due, ok);
+            }
+            due += intervalNanos;
+        }
+    }
+
+    private boolean send(Call call) {
+        try {
+            HttpResponse<String> response = httpClient.send(call.request(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                return false;
+            }
+            // GraphQL reports failures in the body of a 200
+            if (call.request().uri().getPath().equals("/graphql") && response.body().contains("\"errors\"")) {
+                return false;
+            }
+            if (call.followUp() != null) {
+                call.followUp().accept(calls.parse(response.body()), followUps);
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public LatencyReport report() {
+        return report;
+    }
+}
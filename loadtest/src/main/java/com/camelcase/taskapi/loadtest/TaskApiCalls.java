@@ -0,0 +1,238 @@
+package com.camelcase.taskapi.loadtest;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The requests of the load, one operation name per kind of call.
+ *
+ * Reads pick ids and filter values from the dataset of TaskDataSeeder (ids from 1001, titles starting with
+ * one of its words, due dates in 2024-2025). Writes only touch tasks they created themselves: a create is
+ * followed by an update and a delete of the new task, so the seeded data is the same after every run.
+ */
+public class TaskApiCalls {
+
+    /** One HTTP call: the operation it is reported under, the request, and follow-up calls on success. */
+    public record Call(String operation, HttpRequest request, FollowUp followUp) {
+    }
+
+    @FunctionalInterface
+    public interface FollowUp {
+        void accept(JsonNode body, Deque<Call> next);
+    }
+
+    // Operation name -> weight in the mix; the follow-up updates and deletes come on top of their create
+    public static final Map<String, Integer> DEFAULT_MIX;
+
+    static {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put("login", 1);
+        mix.put("get", 25);
+        mix.put("list", 8);
+        mix.put("list.filtered", 12);
+        mix.put("list.cursor", 6);
+        mix.put("search", 3);
+        mix.put("create", 5);
+        mix.put("graphql.task", 15);
+        mix.put("graphql.taskPage", 15);
+        mix.put("graphql.create", 3);
+        DEFAULT_MIX = Collections.unmodifiableMap(mix);
+    }
+
+    // Title words of TaskDataSeeder
+    private static final List<String> WORDS = List.of(
+            "Review", "Deploy", "Fix", "Write", "Plan", "Test", "Refactor", "Document",
+            "Design", "Migrate", "Release", "Monitor", "Benchmark", "Upgrade", "Audit", "Triage");
+    private static final List<String> STATUSES = List.of("PENDING", "IN_PROGRESS", "COMPLETED");
+    private static final long FIRST_ID = 1001;
+    private static final LocalDate FIRST_DUE_DATE = LocalDate.of(2024, 1, 1);
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String TASK_FIELDS = "id title description taskStatus dueDate";
+    private static final String GRAPHQL_TASK = "query($id: String!) { task(id: $id) { " + TASK_FIELDS + " } }";
+    private static final String GRAPHQL_TASK_PAGE = "query($status: TaskStatus, $from: String, $to: String, $page: Int) { "
+            + "taskPage(taskStatus: $status, dueFrom: $from, dueTo: $to, page: $page, size: 20, totals: ESTIMATED) { "
+            + "tasks { " + TASK_FIELDS + " } totalItems hasNext } }";
+    private static final String GRAPHQL_CREATE = "mutation($task: TaskCreateRequestInput!) { "
+            + "create(taskCreateRequestInput: $task) { " + TASK_FIELDS + " } }";
+    private static final String GRAPHQL_UPDATE = "mutation($id: String!, $changes: TaskUpdateRequestInput!) { "
+            + "update(id: $id, taskUpdateRequestInput: $changes) { " + TASK_FIELDS + " } }";
+    private static final String GRAPHQL_DELETE = "mutation($id: String!) { delete(id: $id) { success } }";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final long tasks;
+    private final String username;
+    private final String password;
+    private volatile String token;
+
+    public TaskApiCalls(String baseUrl, long tasks, String username, String password) {
+        this.baseUrl = baseUrl;
+        this.tasks = tasks;
+        this.username = username;
+        this.password = password;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public Call next(String operation, Random random) {
+        return switch (operation) {
+            case "login" -> login();
+            case "get" -> get("get", "/tasks/" + randomId(random));
+            case "list" -> get("list", "/tasks?size=20&page=" + (1 + random.nextInt(50)));
+            case "list.filtered" -> get("list.filtered", "/tasks?" + randomFilter(random));
+            case "list.cursor" -> listCursor("/tasks?limit=20&status=" + randomRestStatus(random));
+            case "search" -> get("search", "/tasks/search?size=20&q=" + randomWord(random).toLowerCase());
+            case "create" -> create(random);
+            case "graphql.task" -> graphql("graphql.task", GRAPHQL_TASK, Map.of("id", String.valueOf(randomId(random))), null);
+            case "graphql.taskPage" -> graphqlTaskPage(random);
+            case "graphql.create" -> graphqlCreate(random);
+            default -> throw new IllegalArgumentException("Unknown operation " + operation);
+        };
+    }
+
+    public Call login() {
+        ObjectNode body = objectMapper.createObjectNode().put("username", username).put("password", password);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        return new Call("login", request, null);
+    }
+
+    // Status and due date window, several statuses and a title prefix, or status sorted by due date
+    private String randomFilter(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> {
+                LocalDate from = FIRST_DUE_DATE.plusDays(random.nextInt(700));
+                yield "size=20&status=" + randomRestStatus(random) + "&dueFrom=" + from + "&dueTo=" + from.plusDays(30);
+            }
+            case 1 -> "size=20&statuses=pending,in_progress&titlePrefix=" + randomWord(random);
+            default -> "size=20&sort=-dueDate&status=" + randomRestStatus(random);
+        };
+    }
+
+    // First page in cursor mode, then the page after it
+    private Call listCursor(String path) {
+        return get("list.cursor", path, (body, next) -> {
+            JsonNode cursor = body.get("nextCursor");
+            if (cursor != null && cursor.isTextual()) {
+                next.add(get("list.cursor.next", "/tasks?limit=20&after=" + encode(cursor.asText())));
+            }
+        });
+    }
+
+    private Call create(Random random) {
+        HttpRequest request = authorized("/tasks")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(newTask(random, "pending").toString()))
+                .build();
+        return new Call("create", request, (body, next) -> {
+            String id = body.get("id").asText();
+            ObjectNode changes = objectMapper.createObjectNode().put("taskStatus", "completed");
+            next.add(new Call("update", authorized("/tasks/" + id)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(changes.toString()))
+                    .build(), null));
+            next.add(new Call("delete", authorized("/tasks/" + id).DELETE().build(), null));
+        });
+    }
+
+    private Call graphqlTaskPage(Random random) {
+        LocalDate from = FIRST_DUE_DATE.plusDays(random.nextInt(700));
+        return graphql("graphql.taskPage", GRAPHQL_TASK_PAGE, Map.of(
+                "status", randomStatus(random),
+                "from", from.toString(),
+                "to", from.plusDays(30).toString(),
+                "page", 1 + random.nextInt(5)), null);
+    }
+
+    private Call graphqlCreate(Random random) {
+        return graphql("graphql.create", GRAPHQL_CREATE, Map.of("task", newTask(random, "PENDING")), (body, next) -> {
+            String id = body.path("data").path("create").path("id").asText();
+            next.add(graphql("graphql.update", GRAPHQL_UPDATE, Map.of("id", id, "changes", Map.of("taskStatus", "COMPLETED")), null));
+            next.add(graphql("graphql.delete", GRAPHQL_DELETE, Map.of("id", id), null));
+        });
+    }
+
+    private Call graphql(String operation, String query, Map<String, Object> variables, FollowUp followUp) {
+        ObjectNode body = objectMapper.createObjectNode().put("query", query);
+        body.set("variables", objectMapper.valueToTree(variables));
+        HttpRequest request = authorized("/graphql")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        return new Call(operation, request, followUp);
+    }
+
+    private Call get(String operation, String path) {
+        return get(operation, path, null);
+    }
+
+    private Call get(String operation, String path, FollowUp followUp) {
+        return new Call(operation, authorized(path).GET().build(), followUp);
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + token);
+    }
+
+    // REST spells statuses in lower case, GraphQL enums in upper case
+    private ObjectNode newTask(Random random, String status) {
+        return objectMapper.createObjectNode()
+                .put("title", "Load test " + randomWord(random))
+                .put("description", "Created by the load test")
+                .put("taskStatus", status)
+                .put("dueDate", FIRST_DUE_DATE.plusDays(random.nextInt(730)).toString());
+    }
+
+    public JsonNode parse(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long randomId(Random random) {
+        return FIRST_ID + (long) (random.nextDouble() * tasks);
+    }
+
+    private static String randomStatus(Random random) {
+        return STATUSES.get(random.nextInt(STATUSES.size()));
+    }
+
+    private static String randomRestStatus(Random random) {
+        return randomStatus(random).toLowerCase();
+    }
+
+    private static String randomWord(Random random) {
+        return WORDS.get(random.nextInt(WORDS.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,24 @@
+package com.camelcase.taskapi.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+import com.camelcase.taskapi.exception.GraphQLExceptionHandler;
+import com.camelcase.taskapi.security.JwtTokenCache;
+import com.camelcase.taskapi.security.JwtUtil;
+
+/**
+ * The task API on WebFlux and R2DBC: same REST contract and GraphQL schema as the servlet
+ * application, non-blocking end to end. Beans shared with the servlet application live outside
+ * this package and are imported explicitly.
+ */
+@SpringBootApplication
+@Import({ JwtUtil.class, JwtTokenCache.class, GraphQLExceptionHandler.class })
+public class ReactiveTaskApiApplication {
+
+    public static void main(String[] args) {
+    	SpringApplication.run(ReactiveTaskApiApplication.class, args);
+    }
+
+}
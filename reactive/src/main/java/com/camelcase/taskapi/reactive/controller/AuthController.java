@@ -0,0 +1,48 @@
+package com.camelcase.taskapi.reactive.controller;
+
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.camelcase.taskapi.dto.AuthRequest;
+import com.camelcase.taskapi.security.JwtUtil;
+
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final ReactiveAuthenticationManager authenticationManager;
+    private final JwtUtil jwtUtil;
+
+    public AuthController(ReactiveAuthenticationManager authenticationManager, JwtUtil jwtUtil) {
+        this.authenticationManager = authenticationManager;
+        this.jwtUtil = jwtUtil;
+    }
+
+    @PostMapping(value = "/login", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public Mono<Map<String, String>> loginFormData(ServerWebExchange exchange) {
+        return exchange.getFormData().flatMap(form -> authenticateAndGenerateToken(
+                form.getFirst("username"), form.getFirst("password")));
+    }
+
+    @PostMapping(value = "/login", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Map<String, String>> loginJson(@RequestBody AuthRequest request) {
+        return authenticateAndGenerateToken(request.getUsername(), request.getPassword());
+    }
+
+    private Mono<Map<String, String>> authenticateAndGenerateToken(String username, String password) {
+        return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password))
+                .map(authentication -> Map.of(
+                    "access_token", jwtUtil.generateToken(authentication.getName()),
+                    "token_type", "Bearer",
+                    "expires_in", "3600"
+                ));
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.camelcase.taskapi.reactive.controller;
+
+import com.camelcase.taskapi.controller.TaskETags;
+import com.camelcase.taskapi.controller.TaskPages;
+import com.camelcase.taskapi.model.Delete200Response;
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.model.TaskPage;
+import com.camelcase.taskapi.model.TaskUpdateRequest;
+import com.camelcase.taskapi.reactive.api.TasksApi;
+import com.camelcase.taskapi.reactive.service.TaskService;
+import com.camelcase.taskapi.service.TaskFilter;
+import com.camelcase.taskapi.service.TotalsMode;
+
+import jakarta.validation.Valid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/tasks")
+public class TaskController implements TasksApi {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final TaskService taskService;
+
+    public TaskController(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    // Get all tasks with pagination & optional filtering, same parameters and rules as the servlet API
+    // Passing `after` or `limit` switches from page numbers to cursor (keyset) pagination
+    @GetMapping
+    @Override
+    public Mono<ResponseEntity<TaskPage>> findAll(
+            @Valid @RequestParam(required = false) String status,
+            @Valid @RequestParam(defaultValue = "1") Integer page,
+            @Valid @RequestParam(defaultValue = "10") Integer size,
+            @Valid @RequestParam(required = false) String after,
+            @Valid @RequestParam(required = false) Integer limit,
+            @Valid @RequestParam(defaultValue = "exact") String totals,
+            @Valid @RequestParam(required = false) List<String> statuses,
+            @Valid @RequestParam(required = false) String dueFrom,
+            @Valid @RequestParam(required = false) String dueTo,
+            @Valid @RequestParam(required = false) String titlePrefix,
+            @Valid @RequestParam(required = false) String sort,
+            ServerWebExchange exchange
+            ) {
+        TaskFilter filter = filter(status, statuses, dueFrom, dueTo, titlePrefix, sort);
+
+        if (after != null || limit != null) {
+            return taskService.findAfter(filter, after, limit != null ? limit : size)
+                    .map(tasks -> conditional(TaskPages.ofCursor(tasks)));
+        }
+        return taskService.findAll(filter, page, size, TotalsMode.fromString(totals))
+                .map(tasks -> conditional(TaskPages.of(tasks)));
+    }
+
+    // Stream every task matching the filter, one JSON document per line. Not part of the OpenAPI contract:
+    // the response is written as the client reads it, so its size is not bounded by a page.
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Task> stream(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) List<String> statuses,
+            @RequestParam(required = false) String dueFrom,
+            @RequestParam(required = false) String dueTo,
+            @RequestParam(required = false) String titlePrefix,
+            @RequestParam(required = false) String sort) {
+        return taskService.stream(filter(status, statuses, dueFrom, dueTo, titlePrefix, sort));
+    }
+
+    // Create a new task
+    @PostMapping
+    @Override
+    public Mono<ResponseEntity<Task>> create(@Valid @RequestBody Mono<TaskCreateRequest> request, ServerWebExchange exchange) {
+        return request.flatMap(taskService::create).map(ResponseEntity::ok);
+    }
+
+    // Get a specific task by ID, answered with 304 when the client still has its current version
+    @GetMapping("/{id}")
+    @Override
+    public Mono<ResponseEntity<Task>> get(@PathVariable String id, ServerWebExchange exchange) {
+        return taskService.get(id).map(task -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .cacheControl(REVALIDATE)
+                    .eTag(TaskETags.of(task));
+            if (task.getUpdatedAt() != null) {
+                response.lastModified(task.getUpdatedAt().toInstant());
+            }
+            return response.body(task);
+        });
+    }
+
+    // As in the servlet API, the result handler compares the ETag with If-None-Match on GET and sends 304
+    // without writing the body
+    private static ResponseEntity<TaskPage> conditional(TaskPage taskPage) {
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(TaskETags.of(taskPage))
+                .body(taskPage);
+    }
+
+    // Update a task by ID; with If-Match only while the task is still at that version
+    @PutMapping("/{id}")
+    @Override
+    public Mono<ResponseEntity<Task>> update(@PathVariable String id, @Valid @RequestBody Mono<TaskUpdateRequest> request,
+                                             ServerWebExchange exchange) {
+        Long expectedVersion = TaskETags.expectedVersion(exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_MATCH));
+        return request.flatMap(changes -> taskService.update(id, changes, expectedVersion))
+                .map(task -> ResponseEntity.ok().eTag(TaskETags.of(task)).body(task));
+    }
+
+    // Delete a task by ID; with If-Match only while the task is still at that version
+    @DeleteMapping("/{id}")
+    @Override
+    public Mono<ResponseEntity<Delete200Response>> delete(@PathVariable String id, ServerWebExchange exchange) {
+        Long expectedVersion = TaskETags.expectedVersion(exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_MATCH));
+        return taskService.delete(id, expectedVersion).then(Mono.fromSupplier(() -> {
+            Delete200Response response = new Delete200Response();
+            response.setSuccess(true);
+            return ResponseEntity.ok(response);
+        }));
+    }
+
+    private static TaskFilter filter(String status, List<String> statuses, String dueFrom, String dueTo,
+                                     String titlePrefix, String sort) {
+        List<String> allStatuses = new ArrayList<>();
+        if (status != null) {
+            allStatuses.add(status);
+        }
+        if (statuses != null) {
+            allStatuses.addAll(statuses);
+        }
+        return TaskFilter.fromParams(allStatuses, dueFrom, dueTo, titlePrefix, sort);
+    }
+}
@@ -0,0 +1,167 @@
+package com.camelcase.taskapi.reactive.controller;
+
+import com.camelcase.taskapi.controller.TaskPages;
+import com.camelcase.taskapi.dto.BatchResult;
+import com.camelcase.taskapi.dto.TaskBatchUpdateItem;
+import com.camelcase.taskapi.dto.TaskStatusTotal;
+import com.camelcase.taskapi.exception.ResourceNotFoundException;
+import com.camelcase.taskapi.model.Delete200Response;
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.model.TaskPage;
+import com.camelcase.taskapi.model.TaskUpdateRequest;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.reactive.service.TaskBatchService;
+import com.camelcase.taskapi.reactive.service.TaskService;
+import com.camelcase.taskapi.service.TaskFilter;
+import com.camelcase.taskapi.service.TaskSort;
+import com.camelcase.taskapi.service.TotalsMode;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import reactor.core.publisher.Mono;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// Same schema as the servlet application (graphql/task.graphqls), resolved with Monos end to end
+@Controller
+public class TaskGraphQLController {
+
+    private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
+
+    public TaskGraphQLController(TaskService taskService, TaskBatchService taskBatchService) {
+        this.taskService = taskService;
+        this.taskBatchService = taskBatchService;
+    }
+
+    /**
+     * Query to fetch a paginated list of tasks.
+     * Passing `after` or `limit` switches to cursor (keyset) pagination;
+     * totals are not computed at all unless totalItems or totalPages is selected.
+     */
+    @QueryMapping(name = "taskPage")
+    public Mono<TaskPage> taskPage(@Argument Integer page, @Argument Integer size, @Argument TaskStatusEnum taskStatus,
+                                   @Argument String after, @Argument Integer limit, @Argument TotalsMode totals,
+                                   @Argument List<TaskStatusEnum> taskStatuses, @Argument String dueFrom,
+                                   @Argument String dueTo, @Argument String titlePrefix, @Argument TaskSort sort,
+                                   DataFetchingFieldSelectionSet selection) {
+        Set<TaskStatusEnum> statuses = EnumSet.noneOf(TaskStatusEnum.class);
+        if (taskStatus != null) {
+            statuses.add(taskStatus);
+        }
+        if (taskStatuses != null) {
+            statuses.addAll(taskStatuses);
+        }
+        List<String> statusNames = statuses.stream().map(TaskStatusEnum::name).toList();
+        TaskFilter filter = TaskFilter.fromParams(statusNames, dueFrom, dueTo, titlePrefix,
+                sort != null ? sort.getValue() : null);
+
+        int pageSize = size != null ? size : 10;
+        if (after != null || limit != null) {
+            return taskService.findAfter(filter, after, limit != null ? limit : pageSize).map(TaskPages::ofCursor);
+        }
+
+        TotalsMode totalsMode = TotalsMode.NONE;
+        if (selection.contains("totalItems") || selection.contains("totalPages")) {
+            totalsMode = totals != null ? totals : TotalsMode.EXACT;
+        }
+        return taskService.findAll(filter, page != null ? page : 1, pageSize, totalsMode).map(TaskPages::of);
+    }
+
+    /**
+     * Query to search task titles and descriptions, best match first.
+     */
+    @QueryMapping(name = "searchTasks")
+    public Mono<TaskPage> searchTasks(@Argument String q, @Argument Integer page, @Argument Integer size) {
+        return taskService.search(q, page != null ? page : 1, size != null ? size : 10).map(TaskPages::of);
+    }
+
+    /**
+     * Query to fetch a single task by ID.
+     */
+    @QueryMapping(name = "task")
+    public Mono<Task> task(@Argument String id) {
+        return taskService.get(id);
+    }
+
+    /**
+     * Mutation to create a new task.
+     */
+    @MutationMapping(name = "create")
+    public Mono<Task> create(@Argument("taskCreateRequestInput") TaskCreateRequest request) {
+        return taskService.create(request);
+    }
+
+    /**
+     * Mutation to update an existing task, optionally only at the expected version.
+     */
+    @MutationMapping(name = "update")
+    public Mono<Task> update(@Argument String id, @Argument("taskUpdateRequestInput") TaskUpdateRequest request,
+                             @Argument Long expectedVersion) {
+        return taskService.update(id, request, expectedVersion);
+    }
+
+    /**
+     * Mutation to delete a task, optionally only at the expected version.
+     * A version conflict is reported as an error, a missing task as success false.
+     */
+    @MutationMapping(name = "delete")
+    public Mono<Delete200Response> delete(@Argument String id, @Argument Long expectedVersion) {
+        return taskService.delete(id, expectedVersion)
+                .thenReturn(true)
+                .onErrorReturn(ResourceNotFoundException.class, false)
+                .map(success -> {
+                    Delete200Response delete200Response = new Delete200Response();
+                    delete200Response.setSuccess(success);
+                    return delete200Response;
+                });
+    }
+
+    /**
+     * Mutation to create many tasks in one call.
+     */
+    @MutationMapping(name = "createBatch")
+    public Mono<BatchResult> createBatch(@Argument("taskCreateRequestInputs") List<TaskCreateRequest> requests) {
+        return taskBatchService.createAll(requests);
+    }
+
+    /**
+     * Mutation to partially update many tasks in one call.
+     */
+    @MutationMapping(name = "updateBatch")
+    public Mono<BatchResult> updateBatch(@Argument("items") List<TaskBatchUpdateItem> items) {
+        return taskBatchService.updateAll(items);
+    }
+
+    /**
+     * Mutation to delete many tasks in one call.
+     */
+    @MutationMapping(name = "deleteBatch")
+    public Mono<BatchResult> deleteBatch(@Argument List<String> ids) {
+        return taskBatchService.deleteAll(ids);
+    }
+
+    /**
+     * Query to count tasks by status, or all tasks when no status is given.
+     */
+    @QueryMapping
+    public Mono<Integer> countTasks(@Argument String status) {
+        return taskService.countTasks(status);
+    }
+
+    /**
+     * Query to count the tasks of every status in one call.
+     */
+    @QueryMapping
+    public Mono<List<TaskStatusTotal>> taskCounts() {
+        return taskService.countAllTasks().map(counts -> counts.entrySet().stream()
+                .map(entry -> new TaskStatusTotal(entry.getKey(), entry.getValue()))
+                .toList());
+    }
+}
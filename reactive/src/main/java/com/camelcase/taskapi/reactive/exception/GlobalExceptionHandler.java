@@ -0,0 +1,99 @@
+package com.camelcase.taskapi.reactive.exception;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.exception.PreconditionFailedException;
+import com.camelcase.taskapi.exception.ResourceNotFoundException;
+import com.camelcase.taskapi.model.ErrorResponse;
+
+import jakarta.validation.ConstraintViolationException;
+
+// Same error bodies as the servlet GlobalExceptionHandler; only the WebFlux binding exceptions differ
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    // Handle 403 Forbidden (Access Denied)
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
+        return error(HttpStatus.FORBIDDEN, "Access denied", List.of("You do not have permission to access this resource."));
+    }
+
+    // Handle 401 Unauthorized (Invalid Login)
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationException(AuthenticationException ex) {
+        return error(HttpStatus.UNAUTHORIZED, "Unauthorized", List.of("Invalid username or password."));
+    }
+
+    @ExceptionHandler(BadCredentialsException.class)
+    public ResponseEntity<ErrorResponse> handleBadCredentialsException(BadCredentialsException ex) {
+        return error(HttpStatus.UNAUTHORIZED, "Unauthorized", List.of("Incorrect username or password."));
+    }
+
+    // Handle Not Found Errors (404)
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFoundException(ResourceNotFoundException ex) {
+        return error(HttpStatus.NOT_FOUND, "Task not found", List.of(ex.getMessage()));
+    }
+
+    // Handle version conflicts (412) of conditional writes
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        return error(HttpStatus.PRECONDITION_FAILED, "Precondition failed", List.of(ex.getMessage()));
+    }
+
+    // Handle Bad Requests (400) raised by the service layer
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(BadRequestException ex) {
+        return error(HttpStatus.BAD_REQUEST, "Bad request", List.of(ex.getMessage()));
+    }
+
+    // Handle Validation Errors (400) from @Valid request bodies
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(WebExchangeBindException ex) {
+        List<String> errors = ex.getBindingResult().getFieldErrors().stream()
+                .map(FieldError::getDefaultMessage)
+                .collect(Collectors.toList());
+        return error(HttpStatus.BAD_REQUEST, "Validation error", errors);
+    }
+
+    // Handle unreadable bodies and malformed parameters (400)
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInputException(ServerWebInputException ex) {
+        return error(HttpStatus.BAD_REQUEST, "Bad request", List.of(ex.getReason()));
+    }
+
+    // Handle Constraint Violations (e.g., @Size, @NotNull on query params)
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex) {
+        List<String> errors = ex.getConstraintViolations().stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.toList());
+        return error(HttpStatus.BAD_REQUEST, "Validation error", errors);
+    }
+
+    // Handle General Errors (500)
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error", List.of(String.valueOf(ex.getMessage())));
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String error, List<String> details) {
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setError(error);
+        errorResponse.setDetails(details);
+        return new ResponseEntity<>(errorResponse, status);
+    }
+}
@@ -0,0 +1,29 @@
+package com.camelcase.taskapi.reactive.mapper;
+
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.model.TaskUpdateRequest;
+import com.camelcase.taskapi.reactive.model.entity.TaskEntity;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+
+@Mapper(componentModel = "spring")
+public interface TaskMapper {
+    Task toDto(TaskEntity taskEntity);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    TaskEntity toEntity(TaskCreateRequest request);
+
+    // Copies only the non-null fields of the request onto the entity
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    void updateEntity(TaskUpdateRequest request, @MappingTarget TaskEntity taskEntity);
+}
@@ -0,0 +1,34 @@
+package com.camelcase.taskapi.reactive.model.entity;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+
+import lombok.*;
+
+// Same tasks table as the JPA entity; schema.sql creates it with the same indexes.
+// Ids come from the column default (tasks_seq) and are read back after the insert.
+// The version is checked and bumped by every save; updatedAt is set by TaskEntityCallbacks.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("tasks")
+public class TaskEntity {
+    @Id
+    private Long id;
+
+    private String title;
+    private String description;
+    private TaskStatusEnum taskStatus;
+    private LocalDate dueDate;
+
+    @Version
+    private Long version;
+
+    private OffsetDateTime updatedAt;
+}
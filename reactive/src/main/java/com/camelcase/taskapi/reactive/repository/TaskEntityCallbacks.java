@@ -0,0 +1,24 @@
+package com.camelcase.taskapi.reactive.repository;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.stereotype.Component;
+
+import com.camelcase.taskapi.reactive.model.entity.TaskEntity;
+
+import reactor.core.publisher.Mono;
+
+// Stamps updatedAt on every insert and update, as @UpdateTimestamp does for the JPA entity
+@Component
+public class TaskEntityCallbacks implements BeforeConvertCallback<TaskEntity> {
+
+    @Override
+    public Publisher<TaskEntity> onBeforeConvert(TaskEntity entity, SqlIdentifier table) {
+        entity.setUpdatedAt(OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        return Mono.just(entity);
+    }
+}
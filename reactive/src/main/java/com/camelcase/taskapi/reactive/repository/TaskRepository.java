@@ -0,0 +1,21 @@
+package com.camelcase.taskapi.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.reactive.model.entity.TaskEntity;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface TaskRepository extends R2dbcRepository<TaskEntity, Long>, TaskRepositoryCustom {
+
+    Mono<Long> countByTaskStatus(TaskStatusEnum taskStatus);
+
+    // One grouped count over the (task_status, id) index instead of one count per status
+    @Query("SELECT task_status, COUNT(*) AS total FROM tasks GROUP BY task_status")
+    Flux<TaskStatusCount> countGroupByTaskStatus();
+}
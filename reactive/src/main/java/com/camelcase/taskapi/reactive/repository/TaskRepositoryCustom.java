@@ -0,0 +1,34 @@
+package com.camelcase.taskapi.reactive.repository;
+
+import java.util.List;
+
+import com.camelcase.taskapi.reactive.model.entity.TaskEntity;
+import com.camelcase.taskapi.service.TaskFilter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Filtered queries built from a TaskFilter, the R2DBC counterpart of TaskSpecifications
+public interface TaskRepositoryCustom {
+
+    /**
+     * Tasks matching the filter in the filter's order.
+     *
+     * @param afterId only tasks with a greater id (keyset pagination), or null
+     * @param offset  number of matching tasks to skip
+     * @param limit   maximum number of tasks, or 0 for all of them
+     */
+    Flux<TaskEntity> findMatching(TaskFilter filter, Long afterId, long offset, int limit);
+
+    Mono<Long> countMatching(TaskFilter filter);
+
+    /**
+     * Tasks whose title or description contains any of the words, best match first: every word found
+     * in the title counts twice, every word found in the description once, ties are in id order.
+     *
+     * @param words lowercase words without LIKE wildcards
+     */
+    Flux<TaskEntity> search(List<String> words, long offset, int limit);
+
+    Mono<Long> countSearch(List<String> words);
+}
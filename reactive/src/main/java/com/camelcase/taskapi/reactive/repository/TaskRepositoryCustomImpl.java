@@ -0,0 +1,99 @@
+package com.camelcase.taskapi.reactive.repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+
+import com.camelcase.taskapi.reactive.model.entity.TaskEntity;
+import com.camelcase.taskapi.service.TaskFilter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private final R2dbcEntityTemplate template;
+
+    public TaskRepositoryCustomImpl(R2dbcEntityTemplate template) {
+        this.template = template;
+    }
+
+    @Override
+    public Flux<TaskEntity> findMatching(TaskFilter filter, Long afterId, long offset, int limit) {
+        Criteria criteria = criteria(filter);
+        if (afterId != null) {
+            criteria = criteria.and("id").greaterThan(afterId);
+        }
+        Query query = Query.query(criteria).sort(filter.toSort()).offset(offset);
+        if (limit > 0) {
+            query = query.limit(limit);
+        }
+        return template.select(query, TaskEntity.class);
+    }
+
+    @Override
+    public Mono<Long> countMatching(TaskFilter filter) {
+        return template.count(Query.query(criteria(filter)), TaskEntity.class);
+    }
+
+    // Substring matches, so unlike the servlet application's search index this reads the whole table
+    @Override
+    public Flux<TaskEntity> search(List<String> words, long offset, int limit) {
+        String score = IntStream.range(0, words.size())
+                .mapToObj(i -> "(case when lower(title) like :w" + i + " then 2 else 0 end"
+                        + " + case when lower(description) like :w" + i + " then 1 else 0 end)")
+                .collect(Collectors.joining(" + "));
+        String sql = "select * from (select t.*, " + score + " as score from tasks t) s"
+                + " where s.score > 0 order by s.score desc, s.id limit :limit offset :offset";
+        return bindWords(sql, words)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map((row, metadata) -> template.getConverter().read(TaskEntity.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countSearch(List<String> words) {
+        String matches = IntStream.range(0, words.size())
+                .mapToObj(i -> "lower(title) like :w" + i + " or lower(description) like :w" + i)
+                .collect(Collectors.joining(" or "));
+        return bindWords("select count(*) from tasks where " + matches, words)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private GenericExecuteSpec bindWords(String sql, List<String> words) {
+        GenericExecuteSpec spec = template.getDatabaseClient().sql(sql);
+        for (int i = 0; i < words.size(); i++) {
+            spec = spec.bind("w" + i, "%" + words.get(i) + "%");
+        }
+        return spec;
+    }
+
+    // Same conditions as TaskSpecifications.matching, on the same indexed columns
+    private static Criteria criteria(TaskFilter filter) {
+        Criteria criteria = Criteria.empty();
+        if (!filter.getStatuses().isEmpty()) {
+            criteria = filter.getStatuses().size() == 1
+                    ? criteria.and("taskStatus").is(filter.getStatuses().iterator().next())
+                    : criteria.and("taskStatus").in(filter.getStatuses());
+        }
+        if (filter.getDueFrom() != null) {
+            criteria = criteria.and("dueDate").greaterThanOrEquals(filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            criteria = criteria.and("dueDate").lessThanOrEquals(filter.getDueTo());
+        }
+        if (filter.getTitlePrefix() != null) {
+            // H2 escapes LIKE patterns with a backslash by default
+            String prefix = filter.getTitlePrefix();
+            criteria = criteria.and("title").like(prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+        return criteria;
+    }
+}
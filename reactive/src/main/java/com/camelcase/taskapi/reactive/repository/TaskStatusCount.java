@@ -0,0 +1,12 @@
+package com.camelcase.taskapi.reactive.repository;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+
+/**
+ * One row of {@link TaskRepository#countGroupByTaskStatus()}.
+ *
+ * @param taskStatus the status
+ * @param total      number of tasks with that status
+ */
+public record TaskStatusCount(TaskStatusEnum taskStatus, long total) {
+}
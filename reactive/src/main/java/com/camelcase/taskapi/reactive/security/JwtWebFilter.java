@@ -0,0 +1,58 @@
+package com.camelcase.taskapi.reactive.security;
+
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.camelcase.taskapi.security.JwtAuthenticator;
+import com.camelcase.taskapi.security.TokenRejectedException;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the servlet JwtAuthenticationFilter: the token check itself is the shared
+ * {@link JwtAuthenticator}, this filter only carries the result in the Reactor context instead of a
+ * thread-local SecurityContextHolder. Verified tokens are cached, so the check does not block.
+ */
+public class JwtWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtWebFilter.class);
+
+    private final JwtAuthenticator jwtAuthenticator;
+
+    public JwtWebFilter(JwtAuthenticator jwtAuthenticator) {
+        this.jwtAuthenticator = jwtAuthenticator;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (jwtAuthenticator.isPublicEndpoint(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+
+        Authentication authentication;
+        try {
+            authentication = jwtAuthenticator.authenticate(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        } catch (TokenRejectedException e) {
+            return handleError(exchange.getResponse(), e);
+        }
+        return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    private Mono<Void> handleError(ServerHttpResponse response, TokenRejectedException e) {
+        logger.warn("Authentication error: {}", e.getMessage());
+        response.setStatusCode(e.getStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = JwtAuthenticator.errorBody(e.getMessage()).getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
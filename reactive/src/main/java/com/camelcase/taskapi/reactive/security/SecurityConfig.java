@@ -0,0 +1,89 @@
+package com.camelcase.taskapi.reactive.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+import com.camelcase.taskapi.security.JwtAuthenticator;
+import com.camelcase.taskapi.security.JwtTokenCache;
+import com.camelcase.taskapi.security.UserStore;
+
+import reactor.core.publisher.Mono;
+
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+
+    private static final String[] WHITE_LIST_URL = {
+                    "/api/auth/login",
+                    "/", "/*.html",
+                    "/favicon.ico",
+                    "/static/**",
+                    "/public/**",
+                    "/swagger-ui/**",
+                    "/webjars/**",
+                    "/v3/api-docs/**",
+                    "/graphiql",
+                    "/graphql/schema" };
+
+    @Value("${security.admin.username}")
+    private String adminUsername;
+
+    @Value("${security.admin.password}")
+    private String adminPassword;
+
+    // The JWT filter is deliberately not a bean: WebFlux would also add every WebFilter bean to the main chain
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtTokenCache jwtTokenCache, UserStore userStore) {
+        JwtWebFilter jwtWebFilter = new JwtWebFilter(new JwtAuthenticator(jwtTokenCache, userStore));
+        http
+            .csrf(csrf -> csrf.disable())  // Disable CSRF for API requests
+            .httpBasic(httpBasic -> httpBasic.disable())
+            .formLogin(formLogin -> formLogin.disable())
+            .authorizeExchange(exchanges -> exchanges
+                .pathMatchers(WHITE_LIST_URL).permitAll()
+                .anyExchange().authenticated())
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())  // Stateless
+            .addFilterAt(jwtWebFilter, SecurityWebFiltersOrder.AUTHENTICATION);
+
+        return http.build();
+    }
+
+    // Credentials are hashed once here, at startup
+    @Bean
+    public UserStore userStore(PasswordEncoder passwordEncoder) {
+        return new UserStore(adminUsername, adminPassword, passwordEncoder);
+    }
+
+    // The store is in memory, so looking a user up never blocks
+    @Bean
+    public ReactiveUserDetailsService userDetailsService(UserStore userStore) {
+        return username -> Mono.fromCallable(() -> userStore.loadUserByUsername(username));
+    }
+
+    // Password checks (BCrypt) run on the bounded elastic scheduler, off the event loop
+    @Bean
+    public ReactiveAuthenticationManager authenticationManager(ReactiveUserDetailsService userDetailsService,
+                                                               PasswordEncoder passwordEncoder) {
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+        return authenticationManager;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.camelcase.taskapi.reactive.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.camelcase.taskapi.dto.BatchItemResult;
+import com.camelcase.taskapi.dto.BatchItemResult.Status;
+import com.camelcase.taskapi.dto.BatchResult;
+import com.camelcase.taskapi.dto.TaskBatchUpdateItem;
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.reactive.mapper.TaskMapper;
+import com.camelcase.taskapi.reactive.model.entity.TaskEntity;
+import com.camelcase.taskapi.reactive.repository.TaskRepository;
+
+import jakarta.validation.Validator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bulk create/update/delete, with the same item rules and results as the servlet TaskBatchService.
+ *
+ * Items are validated one by one, then written in chunks of {@code tasks.batch.chunk-size}, one
+ * transaction per chunk and one chunk at a time. A failing chunk is rolled back on its own and
+ * its items are reported as FAILED; earlier chunks stay committed.
+ */
+@Service
+public class TaskBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBatchService.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final TransactionalOperator transactionalOperator;
+    private final int maxItems;
+    private final int chunkSize;
+
+    public TaskBatchService(TaskRepository taskRepository, TaskMapper taskMapper, Validator validator,
+                            TransactionalOperator transactionalOperator,
+                            @Value("${tasks.batch.max-items:10000}") int maxItems,
+                            @Value("${tasks.batch.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.transactionalOperator = transactionalOperator;
+        this.maxItems = maxItems;
+        this.chunkSize = chunkSize;
+    }
+
+    // Create all valid requests; invalid ones are reported and skipped
+    public Mono<BatchResult> createAll(List<TaskCreateRequest> requests) {
+        checkSize(requests);
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> errors = validate(requests.get(i));
+            if (errors.isEmpty()) {
+                valid.add(i);
+            } else {
+                results[i] = new BatchItemResult(i, null, Status.INVALID, errors);
+            }
+        }
+
+        return inChunks(valid, results, index -> null, chunk -> Flux.fromIterable(chunk)
+                .concatMap(index -> taskRepository.save(taskMapper.toEntity(requests.get(index)))
+                        .map(saved -> new BatchItemResult(index, String.valueOf(saved.getId()), Status.CREATED, null))));
+    }
+
+    // Apply the non-null fields of each item's changes to the task with that id
+    public Mono<BatchResult> updateAll(List<TaskBatchUpdateItem> items) {
+        checkSize(items);
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        Map<Integer, Long> ids = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            TaskBatchUpdateItem item = items.get(i);
+            Long id = item != null ? parseId(item.getId()) : null;
+            List<String> errors = new ArrayList<>();
+            if (id == null) {
+                errors.add("A valid task id is required");
+            }
+            if (item == null || item.getChanges() == null) {
+                errors.add("Changes must not be null");
+            } else {
+                errors.addAll(validate(item.getChanges()));
+            }
+            if (errors.isEmpty()) {
+                ids.put(i, id);
+            } else {
+                results[i] = new BatchItemResult(i, item != null ? item.getId() : null, Status.INVALID, errors);
+            }
+        }
+
+        return inChunks(ids.keySet().stream().sorted().toList(), results, index -> String.valueOf(ids.get(index)),
+                chunk -> taskRepository.findAllById(chunk.stream().map(ids::get).collect(Collectors.toSet()))
+                        .collectMap(TaskEntity::getId)
+                        .flatMapMany(existing -> Flux.fromIterable(chunk).concatMap(index -> {
+                            Long id = ids.get(index);
+                            TaskEntity entity = existing.get(id);
+                            if (entity == null) {
+                                return Mono.just(notFound(index, id));
+                            }
+                            taskMapper.updateEntity(items.get(index).getChanges(), entity);
+                            return taskRepository.save(entity)
+                                    .thenReturn(new BatchItemResult(index, String.valueOf(id), Status.UPDATED, null));
+                        })));
+    }
+
+    // Delete every listed task; unknown ids are reported as NOT_FOUND
+    public Mono<BatchResult> deleteAll(List<String> ids) {
+        checkSize(ids);
+        BatchItemResult[] results = new BatchItemResult[ids.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (parseId(ids.get(i)) == null) {
+                results[i] = new BatchItemResult(i, ids.get(i), Status.INVALID, List.of("A valid task id is required"));
+            } else {
+                valid.add(i);
+            }
+        }
+
+        return inChunks(valid, results, ids::get, chunk -> {
+            Set<Long> chunkIds = chunk.stream().map(index -> parseId(ids.get(index))).collect(Collectors.toSet());
+            return taskRepository.findAllById(chunkIds)
+                    .map(TaskEntity::getId)
+                    .collect(Collectors.toSet())
+                    .flatMapMany(found -> taskRepository.deleteAllById(found).thenMany(Flux.defer(() -> {
+                        // The same id listed twice is only deleted once; later occurrences are NOT_FOUND
+                        Set<Long> reported = new HashSet<>();
+                        return Flux.fromIterable(chunk).map(index -> {
+                            Long id = parseId(ids.get(index));
+                            return found.contains(id) && reported.add(id)
+                                    ? new BatchItemResult(index, String.valueOf(id), Status.DELETED, null)
+                                    : notFound(index, id);
+                        });
+                    })));
+        });
+    }
+
+    // Runs the writer on each chunk of item indexes in its own transaction, one chunk after the other
+    private Mono<BatchResult> inChunks(List<Integer> indexes, BatchItemResult[] results,
+                                       Function<Integer, String> idOf,
+                                       Function<List<Integer>, Flux<BatchItemResult>> writer) {
+        return Flux.fromIterable(indexes)
+                .buffer(chunkSize)
+                .concatMap(chunk -> writer.apply(chunk)
+                        .as(transactionalOperator::transactional)
+                        .collectList()
+                        .onErrorResume(DataAccessException.class, e -> Mono.just(failed(chunk, idOf, e))))
+                .doOnNext(chunkResults -> chunkResults.forEach(result -> results[result.getIndex()] = result))
+                .then(Mono.fromSupplier(() -> BatchResult.of(List.of(results))));
+    }
+
+    private List<BatchItemResult> failed(List<Integer> indexes, Function<Integer, String> idOf, DataAccessException e) {
+        logger.warn("Batch chunk of {} items failed: {}", indexes.size(), e.getMostSpecificCause().getMessage());
+        List<String> errors = List.of(e.getMostSpecificCause().getMessage());
+        return indexes.stream()
+                .map(index -> new BatchItemResult(index, idOf.apply(index), Status.FAILED, errors))
+                .toList();
+    }
+
+    private BatchItemResult notFound(int index, Long id) {
+        return new BatchItemResult(index, String.valueOf(id), Status.NOT_FOUND, List.of("Task with ID " + id + " not found"));
+    }
+
+    // Bean validation messages for one request, empty when it is valid
+    List<String> validate(Object request) {
+        if (request == null) {
+            return List.of("Request must not be null");
+        }
+        return validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.toList());
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one item");
+        }
+        if (items.size() > maxItems) {
+            throw new BadRequestException("Batch must not contain more than " + maxItems + " items");
+        }
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return id != null ? Long.valueOf(id) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
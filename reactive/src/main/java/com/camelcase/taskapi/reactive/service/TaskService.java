@@ -0,0 +1,242 @@
+package com.camelcase.taskapi.reactive.service;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.exception.PreconditionFailedException;
+import com.camelcase.taskapi.exception.ResourceNotFoundException;
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.model.TaskUpdateRequest;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.reactive.mapper.TaskMapper;
+import com.camelcase.taskapi.reactive.model.entity.TaskEntity;
+import com.camelcase.taskapi.reactive.repository.TaskRepository;
+import com.camelcase.taskapi.service.TaskCursor;
+import com.camelcase.taskapi.service.TaskFilter;
+import com.camelcase.taskapi.service.TaskSort;
+import com.camelcase.taskapi.service.TotalsMode;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Non-blocking counterpart of the servlet TaskService, with the same filter and pagination rules.
+ *
+ * There are no in-memory counters, task cache or search index here: every call reads the database,
+ * so ESTIMATED totals are counted exactly like EXACT ones, and search matches words with LIKE.
+ */
+@Service
+public class TaskService {
+
+    private static final int MAX_QUERY_LENGTH = 500;
+    private static final int MAX_QUERY_WORDS = 20;
+
+    // Guarded writes that lose this many races in a row give up instead of spinning on a hot row
+    static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final int maxPageSize;
+
+    public TaskService(TaskRepository taskRepository, TaskMapper taskMapper,
+                       @Value("${tasks.page.max-size:100}") int maxPageSize) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.maxPageSize = maxPageSize;
+    }
+
+    // Get one page of tasks matching the filter. One extra row is read to tell whether a next page exists;
+    // totals are only counted when asked for.
+    public Mono<Slice<Task>> findAll(TaskFilter filter, int page, int size, TotalsMode totals) {
+        checkPageSize(size);
+        Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size, filter.toSort());
+        Mono<Slice<Task>> tasks = taskRepository.findMatching(filter, null, pageable.getOffset(), size + 1)
+                .map(taskMapper::toDto)
+                .collectList()
+                .map(content -> slice(content, pageable));
+        if (totals == TotalsMode.NONE) {
+            return tasks;
+        }
+        return tasks.zipWith(taskRepository.countMatching(filter),
+                (slice, total) -> new PageImpl<>(slice.getContent(), pageable, total));
+    }
+
+    // Get one page of tasks matching the filter after the given cursor (keyset pagination, no count query)
+    public Mono<Slice<Task>> findAfter(TaskFilter filter, String after, int limit) {
+        if (filter.getSort() != TaskSort.ID_ASC) {
+            throw new BadRequestException("Cursor pagination only supports the default sort (id)");
+        }
+        checkPageSize(limit);
+        Long afterId = TaskCursor.decode(after);
+        Pageable pageable = PageRequest.of(0, limit, filter.toSort());
+        return taskRepository.findMatching(filter, afterId, 0, limit + 1)
+                .map(taskMapper::toDto)
+                .collectList()
+                .map(content -> slice(content, pageable));
+    }
+
+    // Every task matching the filter, in the filter's order. Rows are read from the database
+    // as the subscriber requests them, so a slow consumer slows the query instead of buffering it.
+    public Flux<Task> stream(TaskFilter filter) {
+        return taskRepository.findMatching(filter, null, 0, 0).map(taskMapper::toDto);
+    }
+
+    // One page of tasks whose title or description contains any word of the query, best match first.
+    // Same rules as the servlet TaskSearchService, except that words match anywhere inside a word.
+    public Mono<Page<Task>> search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must not be longer than " + MAX_QUERY_LENGTH + " characters");
+        }
+        checkPageSize(size);
+        List<String> words = Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+        if (words.isEmpty()) {
+            throw new BadRequestException("Search query must contain a word");
+        }
+        if (words.size() > MAX_QUERY_WORDS) {
+            throw new BadRequestException("Search query must not have more than " + MAX_QUERY_WORDS + " words");
+        }
+
+        Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size);
+        return taskRepository.search(words, pageable.getOffset(), size)
+                .map(taskMapper::toDto)
+                .collectList()
+                .zipWith(taskRepository.countSearch(words), (content, total) -> new PageImpl<>(content, pageable, total));
+    }
+
+    // Get a specific task by ID with error handling
+    public Mono<Task> get(String id) {
+        return taskRepository.findById(parseId(id))
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .map(taskMapper::toDto);
+    }
+
+    // Create a new task
+    public Mono<Task> create(TaskCreateRequest request) {
+        return taskRepository.save(taskMapper.toEntity(request)).map(taskMapper::toDto);
+    }
+
+    // Update an existing task; only the non-null fields of the request are changed
+    public Mono<Task> update(String id, TaskUpdateRequest request) {
+        return update(id, request, null);
+    }
+
+    // Update an existing task if it is still at the expected version (any version when null).
+    // Saves are checked against the version read (@Version); when another write got in between,
+    // the task is read again, and without an expected version the change is applied to the new row
+    // (at most MAX_WRITE_ATTEMPTS times).
+    public Mono<Task> update(String id, TaskUpdateRequest request, Long expectedVersion) {
+        return taskRepository.findById(parseId(id))
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .flatMap(taskEntity -> checkVersion(id, expectedVersion, taskEntity))
+                .flatMap(taskEntity -> {
+                    taskMapper.updateEntity(request, taskEntity);
+                    return taskRepository.save(taskEntity);
+                })
+                .retryWhen(retryLostRaces(id))
+                .map(taskMapper::toDto);
+    }
+
+    // Delete a task with error handling
+    public Mono<Void> delete(String id) {
+        return delete(id, null);
+    }
+
+    // Delete a task if it is still at the expected version (any version when null)
+    public Mono<Void> delete(String id, Long expectedVersion) {
+        Long taskId = parseId(id);
+        if (expectedVersion == null) {
+            return taskRepository.existsById(taskId)
+                    .flatMap(exists -> exists ? taskRepository.deleteById(taskId) : Mono.error(notFound(id)));
+        }
+        return taskRepository.findById(taskId)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .flatMap(taskEntity -> checkVersion(id, expectedVersion, taskEntity))
+                .flatMap(taskRepository::delete)
+                .retryWhen(retryLostRaces(id));
+    }
+
+    private static Retry retryLostRaces(String id) {
+        return Retry.max(MAX_WRITE_ATTEMPTS - 1)
+                .filter(OptimisticLockingFailureException.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) -> new PreconditionFailedException("Task with ID " + id
+                        + " kept changing during " + MAX_WRITE_ATTEMPTS + " attempts to write it, try again"));
+    }
+
+    private static Mono<TaskEntity> checkVersion(String id, Long expectedVersion, TaskEntity taskEntity) {
+        if (expectedVersion != null && !expectedVersion.equals(taskEntity.getVersion())) {
+            return Mono.error(new PreconditionFailedException("Task with ID " + id + " is at version "
+                    + taskEntity.getVersion() + ", not " + expectedVersion));
+        }
+        return Mono.just(taskEntity);
+    }
+
+    // Count tasks by status, or all tasks when status is empty
+    public Mono<Integer> countTasks(String status) {
+        Mono<Long> count = status == null || status.isEmpty()
+                ? taskRepository.count()
+                : taskRepository.countByTaskStatus(TaskStatusEnum.fromString(status));
+        return count.map(Long::intValue);
+    }
+
+    // Count tasks of every status in one query; statuses without tasks are reported as 0
+    public Mono<Map<TaskStatusEnum, Long>> countAllTasks() {
+        return taskRepository.countGroupByTaskStatus()
+                .collect(() -> {
+                    Map<TaskStatusEnum, Long> counts = new EnumMap<>(TaskStatusEnum.class);
+                    for (TaskStatusEnum status : TaskStatusEnum.values()) {
+                        counts.put(status, 0L);
+                    }
+                    return counts;
+                }, (counts, row) -> counts.put(row.taskStatus(), row.total()));
+    }
+
+    // Same bound as the servlet service: at most tasks.page.max-size tasks per page
+    private void checkPageSize(int size) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be positive");
+        }
+        if (size > maxPageSize) {
+            throw new BadRequestException("Page size must not be larger than " + maxPageSize);
+        }
+    }
+
+    // The extra row read past the page only signals that there is a next page
+    private static Slice<Task> slice(List<Task> content, Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new ResourceNotFoundException("Task with ID " + id + " not found");
+        }
+    }
+
+    private static ResourceNotFoundException notFound(String id) {
+        return new ResourceNotFoundException("Task with ID " + id + " not found");
+    }
+}
@@ -0,0 +1,17 @@
+-- The tasks table of the servlet application (Hibernate creates it there), including its indexes
+-- Ids come from the column default, one at a time (no Hibernate pooling here)
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id BIGINT DEFAULT NEXT VALUE FOR tasks_seq PRIMARY KEY,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    task_status VARCHAR(255),
+    due_date DATE,
+    version BIGINT DEFAULT 0 NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_status_id ON tasks (task_status, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_status_due_date ON tasks (task_status, due_date);
+CREATE INDEX IF NOT EXISTS idx_tasks_title ON tasks (title);
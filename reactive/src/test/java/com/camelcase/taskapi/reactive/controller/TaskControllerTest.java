@@ -0,0 +1,167 @@
+package com.camelcase.taskapi.reactive.controller;
+
+import com.camelcase.taskapi.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The whole application, from the JWT web filter down to the seeded in-memory database
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class TaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        Map<?, ?> response = webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", "admin", "password", "BlueSky"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Map.class)
+                .returnResult().getResponseBody();
+        token = (String) response.get("access_token");
+    }
+
+    @Test
+    public void testMissingTokenIsRejected() {
+        webTestClient.get().uri("/tasks")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody().jsonPath("$.message").isEqualTo("No authentication token provided.");
+    }
+
+    @Test
+    public void testWrongPasswordIsRejected() {
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", "admin", "password", "wrong"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void testFindAllWithFilters() {
+        webTestClient.get().uri("/tasks?status=pending&dueFrom=2025-04-05&sort=dueDate&size=2")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.tasks[0].id").isEqualTo("7")
+                .jsonPath("$.tasks[1].id").isEqualTo("4")
+                .jsonPath("$.totalItems").isEqualTo(3)
+                .jsonPath("$.hasNext").isEqualTo(true);
+    }
+
+    @Test
+    public void testInvalidFilterIsBadRequest() {
+        webTestClient.get().uri("/tasks?dueFrom=2025-04-05")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Bad request");
+    }
+
+    @Test
+    public void testGetIsConditional() {
+        String eTag = webTestClient.get().uri("/tasks/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache, private")
+                .returnResult(Task.class).getResponseHeaders().getETag();
+        assertThat(eTag).isNotNull();
+
+        webTestClient.get().uri("/tasks/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    public void testFindAllIsConditional() {
+        String eTag = webTestClient.get().uri("/tasks?status=completed")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+        assertThat(eTag).startsWith("W/");
+
+        webTestClient.get().uri("/tasks?status=completed")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    public void testGetUnknownTaskIsNotFound() {
+        webTestClient.get().uri("/tasks/999999")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testStreamIsNewlineDelimitedJson() {
+        List<Task> tasks = webTestClient.get().uri("/tasks/stream?status=completed")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Task.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(tasks).hasSize(5).allMatch(task -> task.getTaskStatus() == Task.TaskStatusEnum.COMPLETED);
+    }
+
+    @Test
+    public void testGraphQLTaskPage() {
+        webTestClient.post().uri("/graphql")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("query", "{ taskPage(taskStatus: IN_PROGRESS, size: 2) { tasks { id } totalItems } taskCounts { taskStatus count } }"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.taskPage.tasks[0].id").isEqualTo("2")
+                .jsonPath("$.data.taskPage.tasks[1].id").isEqualTo("5")
+                .jsonPath("$.data.taskPage.totalItems").isEqualTo(5)
+                .jsonPath("$.data.taskCounts.length()").isEqualTo(3);
+    }
+
+    @Test
+    public void testGraphQLSearchTasks() {
+        webTestClient.post().uri("/graphql")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("query", "{ searchTasks(q: \"GraphQL, flexible\") { tasks { id } totalItems } }"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.errors").doesNotExist()
+                .jsonPath("$.data.searchTasks.tasks[0].id").isEqualTo("11")
+                .jsonPath("$.data.searchTasks.tasks[1].id").isEqualTo("1")
+                .jsonPath("$.data.searchTasks.totalItems").isEqualTo(2);
+    }
+}
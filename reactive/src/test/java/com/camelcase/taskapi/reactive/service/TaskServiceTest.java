@@ -0,0 +1,177 @@
+package com.camelcase.taskapi.reactive.service;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.exception.PreconditionFailedException;
+import com.camelcase.taskapi.exception.ResourceNotFoundException;
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.model.TaskUpdateRequest;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.reactive.mapper.TaskMapper;
+import com.camelcase.taskapi.reactive.mapper.TaskMapperImpl;
+import com.camelcase.taskapi.reactive.model.entity.TaskEntity;
+import com.camelcase.taskapi.reactive.repository.TaskEntityCallbacks;
+import com.camelcase.taskapi.reactive.repository.TaskRepository;
+import com.camelcase.taskapi.service.TaskCursor;
+import com.camelcase.taskapi.service.TaskFilter;
+import com.camelcase.taskapi.service.TotalsMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Runs against the seeded data.sql rows (14 tasks, ids 1-14)
+@DataR2dbcTest
+@Import({ TaskService.class, TaskMapperImpl.class, TaskEntityCallbacks.class })
+public class TaskServiceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Test
+    public void testFindAllFiltersSortsAndCounts() {
+        TaskFilter filter = TaskFilter.fromParams(List.of("pending", "completed"), null, null, null, "-id");
+
+        Slice<Task> tasks = taskService.findAll(filter, 1, 3, TotalsMode.EXACT).block();
+
+        assertThat(tasks).isInstanceOf(Page.class);
+        assertThat(((Page<Task>) tasks).getTotalElements()).isEqualTo(9);
+        assertThat(tasks.getContent()).extracting(Task::getId).containsExactly("14", "12", "10");
+        assertThat(tasks.hasNext()).isTrue();
+    }
+
+    @Test
+    public void testFindAllWithoutTotalsKnowsTheLastPage() {
+        TaskFilter filter = TaskFilter.fromParams(List.of("pending"), "2025-04-05", null, null, "dueDate");
+
+        Slice<Task> tasks = taskService.findAll(filter, 1, 3, TotalsMode.NONE).block();
+
+        assertThat(tasks).isNotInstanceOf(Page.class);
+        assertThat(tasks.getContent()).extracting(Task::getId).containsExactly("7", "4", "10");
+        assertThat(tasks.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testFindAfterFollowsTheCursor() {
+        TaskFilter filter = TaskFilter.fromParams(List.of(), null, null, "S", null);
+
+        Slice<Task> first = taskService.findAfter(filter, null, 1).block();
+        Slice<Task> second = taskService.findAfter(filter, TaskCursor.encode(Long.valueOf(first.getContent().get(0).getId())), 1).block();
+
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Task::getTitle).containsExactly("Setup Authentication & Authorization");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testStreamHonoursDemand() {
+        StepVerifier.create(taskService.stream(TaskFilter.fromParams(List.of(), null, null, null, null)), 2)
+                .expectNextCount(2)
+                .thenRequest(20)
+                .expectNextCount(12)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testSearchRanksTitleMatchesFirst() {
+        // 11 has graphql in its title and description and flexible in its description, 1 has each once
+        Page<Task> tasks = taskService.search("GraphQL, flexible", 1, 10).block();
+
+        assertThat(tasks.getContent()).extracting(Task::getId).containsExactly("11", "1");
+        assertThat(tasks.getTotalElements()).isEqualTo(2);
+        // Words match inside words: auth is in the titles and descriptions of 3 and 13, and the description of 4
+        assertThat(taskService.search("auth", 2, 2).block().getContent()).extracting(Task::getId).containsExactly("4");
+        assertThrows(BadRequestException.class, () -> taskService.search(" - ", 1, 10));
+    }
+
+    @Test
+    public void testCreateUpdateDelete() {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle("Reactive task");
+        request.setTaskStatus(TaskCreateRequest.TaskStatusEnum.PENDING);
+        request.setDueDate(LocalDate.of(2025, 5, 1));
+        Task created = taskService.create(request).block();
+        assertThat(Long.valueOf(created.getId())).isGreaterThan(14);
+
+        TaskUpdateRequest changes = new TaskUpdateRequest();
+        changes.setTaskStatus(TaskUpdateRequest.TaskStatusEnum.COMPLETED);
+        Task updated = taskService.update(created.getId(), changes).block();
+        assertThat(updated.getTitle()).isEqualTo("Reactive task");
+        assertThat(updated.getTaskStatus()).isEqualTo(Task.TaskStatusEnum.COMPLETED);
+
+        taskService.delete(created.getId()).block();
+        StepVerifier.create(taskService.get(created.getId())).expectError(ResourceNotFoundException.class).verify();
+    }
+
+    @Test
+    public void testUpdateAndDeleteCheckTheExpectedVersion() {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle("Versioned task");
+        request.setTaskStatus(TaskCreateRequest.TaskStatusEnum.PENDING);
+        request.setDueDate(LocalDate.of(2025, 5, 1));
+        Task created = taskService.create(request).block();
+        assertThat(created.getVersion()).isZero();
+        assertThat(created.getUpdatedAt()).isNotNull();
+
+        TaskUpdateRequest changes = new TaskUpdateRequest();
+        changes.setTitle("Versioned task, changed");
+        Task updated = taskService.update(created.getId(), changes, 0L).block();
+        assertThat(updated.getVersion()).isEqualTo(1);
+
+        StepVerifier.create(taskService.update(created.getId(), changes, 0L)).expectError(PreconditionFailedException.class).verify();
+        StepVerifier.create(taskService.delete(created.getId(), 0L)).expectError(PreconditionFailedException.class).verify();
+        taskService.delete(created.getId(), 1L).block();
+        StepVerifier.create(taskService.get(created.getId())).expectError(ResourceNotFoundException.class).verify();
+    }
+
+    @Test
+    public void testUpdateGivesUpOnHotRow() {
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        TaskEntity taskEntity = new TaskEntity();
+        taskEntity.setTaskStatus(TaskStatusEnum.PENDING);
+        taskEntity.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Mono.just(taskEntity));
+        when(taskRepository.save(any(TaskEntity.class))).thenReturn(Mono.error(new OptimisticLockingFailureException("changed")));
+        TaskService service = new TaskService(taskRepository, taskMapper, 100);
+
+        TaskUpdateRequest changes = new TaskUpdateRequest();
+        changes.setTitle("Hot task");
+        StepVerifier.create(service.update("1", changes)).expectError(PreconditionFailedException.class).verify();
+        verify(taskRepository, times(TaskService.MAX_WRITE_ATTEMPTS)).save(any(TaskEntity.class));
+    }
+
+    @Test
+    public void testCountAllTasks() {
+        assertThat(taskService.countAllTasks().block())
+                .containsEntry(TaskStatusEnum.PENDING, 4L)
+                .containsEntry(TaskStatusEnum.IN_PROGRESS, 5L)
+                .containsEntry(TaskStatusEnum.COMPLETED, 5L);
+        assertThat(taskService.countTasks(null).block()).isEqualTo(14);
+    }
+
+    @Test
+    public void testCursorModeOnlySortsById() {
+        TaskFilter filter = TaskFilter.fromParams(List.of("pending"), null, null, null, "dueDate");
+
+        assertThrows(BadRequestException.class, () -> taskService.findAfter(filter, null, 5));
+    }
+}
@@ -0,0 +1,63 @@
+package com.camelcase.taskapi.controller;
+
+import java.util.Objects;
+
+import com.camelcase.taskapi.exception.PreconditionFailedException;
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskPage;
+
+// ETags for the REST task responses, built from the task versions instead of the serialised body,
+// and the task versions that If-Match headers ask for
+public final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    // The version identifies the state of one task; null when it is unknown
+    public static String of(Task task) {
+        return task.getVersion() != null ? "\"" + task.getVersion() + "\"" : null;
+    }
+
+    // The task version an If-Match header asks for: null when there is none or it is "*" (any version).
+    // If-Match uses strong comparison, so weak or malformed tags can never match.
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not one of our tags, falls through
+            }
+        }
+        throw new PreconditionFailedException("If-Match must be the ETag of the task, e.g. \"3\", but was " + tag);
+    }
+
+    // A 64-bit hash over the ids and versions of the page's tasks and the page fields around them, so a page
+    // changes its tag when one of its tasks changes, a task enters or leaves it, or its totals or cursor move.
+    // Null when a task of the page has no version. The tag is weak: pages are only revalidated with If-None-Match,
+    // which compares weakly, and Tomcat does not compress responses that carry a strong ETag.
+    public static String of(TaskPage page) {
+        long hash = 0xcbf29ce484222325L;
+        for (Task task : page.getTasks()) {
+            if (task.getVersion() == null) {
+                return null;
+            }
+            hash = mix(hash, Long.parseLong(task.getId()));
+            hash = mix(hash, task.getVersion());
+        }
+        hash = mix(hash, Objects.hashCode(page.getTotalItems()));
+        hash = mix(hash, Objects.hashCode(page.getTotalPages()));
+        hash = mix(hash, Objects.hashCode(page.getHasNext()));
+        hash = mix(hash, Objects.hashCode(page.getNextCursor()));
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    // One round of a multiply-xorshift mix (as in SplitMix64), enough to spread small ids and versions
+    private static long mix(long hash, long value) {
+        hash = (hash ^ value) * 0x9e3779b97f4a7c15L;
+        return hash ^ (hash >>> 32);
+    }
+}
@@ -0,0 +1,33 @@
+package com.camelcase.taskapi.controller;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskPage;
+import com.camelcase.taskapi.service.TaskCursor;
+
+// Builds the TaskPage response shared by the REST and GraphQL controllers
+public final class TaskPages {
+
+    private TaskPages() {
+    }
+
+    // Totals are only filled in when the service returned a Page (exact or estimated totals)
+    public static TaskPage of(Slice<Task> tasks) {
+        TaskPage taskPage = new TaskPage();
+        taskPage.setTasks(tasks.getContent());
+        taskPage.setHasNext(tasks.hasNext());
+        if (tasks instanceof Page<Task> page) {
+            taskPage.setTotalPages(page.getTotalPages());
+            taskPage.setTotalItems((int) page.getTotalElements());
+        }
+        return taskPage;
+    }
+
+    public static TaskPage ofCursor(Slice<Task> tasks) {
+        TaskPage taskPage = of(tasks);
+        taskPage.setNextCursor(TaskCursor.next(tasks));
+        return taskPage;
+    }
+}
@@ -0,0 +1,22 @@
+package com.camelcase.taskapi.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Response of the batch endpoints: totals plus one result per submitted item
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchResult {
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResult> results;
+
+    public static BatchResult of(List<BatchItemResult> results) {
+        int succeeded = (int) results.stream().filter(BatchItemResult::isSuccess).count();
+        return new BatchResult(succeeded, results.size() - succeeded, results);
+    }
+}
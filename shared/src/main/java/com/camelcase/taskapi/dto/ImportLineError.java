@@ -0,0 +1,16 @@
+package com.camelcase.taskapi.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Why one line of an import was not imported
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportLineError {
+    private long line;
+    private List<String> errors;
+}
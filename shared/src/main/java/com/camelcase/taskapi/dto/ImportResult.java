@@ -0,0 +1,20 @@
+package com.camelcase.taskapi.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Summary of POST /tasks/import; the error list is capped, the counters are not
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportResult {
+    private long received;
+    private long imported;
+    private long rejected;
+    private List<ImportLineError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+}
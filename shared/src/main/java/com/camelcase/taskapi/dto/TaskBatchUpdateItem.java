@@ -0,0 +1,16 @@
+package com.camelcase.taskapi.dto;
+
+import com.camelcase.taskapi.model.TaskUpdateRequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One entry of a PATCH /tasks:batch request: the task to change and the fields to set
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBatchUpdateItem {
+    private String id;
+    private TaskUpdateRequest changes;
+}
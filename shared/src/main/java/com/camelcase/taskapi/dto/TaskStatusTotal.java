@@ -0,0 +1,16 @@
+package com.camelcase.taskapi.dto;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Number of tasks with one status
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStatusTotal {
+    private TaskStatusEnum taskStatus;
+    private long count;
+}
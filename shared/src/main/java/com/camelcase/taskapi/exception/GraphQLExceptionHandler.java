@@ -1,5 +1,7 @@
 package com.camelcase.taskapi.exception;
 
+import java.util.concurrent.CompletionException;
+
 import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +14,10 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
     
     @Override
     protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        // Async fetchers (DataLoader futures) fail with the real exception wrapped
+        if (ex instanceof CompletionException && ex.getCause() != null) {
+            ex = ex.getCause();
+        }
         return GraphqlErrorBuilder.newError()
                 .message(ex.getMessage())  // Return meaningful error message
                 .path(env.getExecutionStepInfo().getPath())
@@ -0,0 +1,8 @@
+package com.camelcase.taskapi.exception;
+
+// The task is no longer at the version the client based its change on (If-Match, expectedVersion)
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -30,6 +30,8 @@ public class ErrorResponse {
   @Valid
   private List<String> details = new ArrayList<>();
 
+  private @Nullable String traceId;
+
   public ErrorResponse error(String error) {
     this.error = error;
     return this;
@@ -78,6 +80,26 @@ public class ErrorResponse {
     this.details = details;
   }
 
+  public ErrorResponse traceId(String traceId) {
+    this.traceId = traceId;
+    return this;
+  }
+
+  /**
+   * Trace id of the failed request, to find its spans and log lines.
+   * @return traceId
+   */
+  
+  @Schema(name = "traceId", description = "Trace id of the failed request, to find its spans and log lines.", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("traceId")
+  public String getTraceId() {
+    return traceId;
+  }
+
+  public void setTraceId(String traceId) {
+    this.traceId = traceId;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -88,12 +110,13 @@ public class ErrorResponse {
     }
     ErrorResponse errorResponse = (ErrorResponse) o;
     return Objects.equals(this.error, errorResponse.error) &&
-        Objects.equals(this.details, errorResponse.details);
+        Objects.equals(this.details, errorResponse.details) &&
+        Objects.equals(this.traceId, errorResponse.traceId);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(error, details);
+    return Objects.hash(error, details, traceId);
   }
 
   @Override
@@ -102,6 +125,7 @@ public class ErrorResponse {
     sb.append("class ErrorResponse {\n");
     sb.append("    error: ").append(toIndentedString(error)).append("\n");
     sb.append("    details: ").append(toIndentedString(details)).append("\n");
+    sb.append("    traceId: ").append(toIndentedString(traceId)).append("\n");
     sb.append("}");
     return sb.toString();
   }
@@ -73,6 +73,11 @@ public class Task {
   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
   private @Nullable LocalDate dueDate;
 
+  private @Nullable Long version;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private @Nullable OffsetDateTime updatedAt;
+
   public Task id(String id) {
     this.id = id;
     return this;
@@ -173,6 +178,46 @@ public class Task {
     this.dueDate = dueDate;
   }
 
+  public Task version(Long version) {
+    this.version = version;
+    return this;
+  }
+
+  /**
+   * Incremented on every change of the task; the task's ETag is derived from it.
+   * @return version
+   */
+  
+  @Schema(name = "version", accessMode = Schema.AccessMode.READ_ONLY, description = "Incremented on every change of the task; the task's ETag is derived from it.", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("version")
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
+  public Task updatedAt(OffsetDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+    return this;
+  }
+
+  /**
+   * Time of the last change of the task, sent as Last-Modified.
+   * @return updatedAt
+   */
+  @Valid 
+  @Schema(name = "updatedAt", accessMode = Schema.AccessMode.READ_ONLY, description = "Time of the last change of the task, sent as Last-Modified.", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("updatedAt")
+  public OffsetDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(OffsetDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -186,12 +231,14 @@ public class Task {
         Objects.equals(this.title, task.title) &&
         Objects.equals(this.description, task.description) &&
         Objects.equals(this.taskStatus, task.taskStatus) &&
-        Objects.equals(this.dueDate, task.dueDate);
+        Objects.equals(this.dueDate, task.dueDate) &&
+        Objects.equals(this.version, task.version) &&
+        Objects.equals(this.updatedAt, task.updatedAt);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, title, description, taskStatus, dueDate);
+    return Objects.hash(id, title, description, taskStatus, dueDate, version, updatedAt);
   }
 
   @Override
@@ -203,6 +250,8 @@ public class Task {
     sb.append("    description: ").append(toIndentedString(description)).append("\n");
     sb.append("    taskStatus: ").append(toIndentedString(taskStatus)).append("\n");
     sb.append("    dueDate: ").append(toIndentedString(dueDate)).append("\n");
+    sb.append("    version: ").append(toIndentedString(version)).append("\n");
+    sb.append("    updatedAt: ").append(toIndentedString(updatedAt)).append("\n");
     sb.append("}");
     return sb.toString();
   }
@@ -33,6 +33,10 @@ public class TaskPage {
 
   private @Nullable Integer totalItems;
 
+  private @Nullable String nextCursor;
+
+  private @Nullable Boolean hasNext;
+
   public TaskPage tasks(List<@Valid Task> tasks) {
     this.tasks = tasks;
     return this;
@@ -101,6 +105,46 @@ public class TaskPage {
     this.totalItems = totalItems;
   }
 
+  public TaskPage nextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+    return this;
+  }
+
+  /**
+   * Cursor for the next page in cursor mode, absent on the last page.
+   * @return nextCursor
+   */
+  
+  @Schema(name = "nextCursor", description = "Cursor for the next page in cursor mode, absent on the last page.", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("nextCursor")
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+
+  public TaskPage hasNext(Boolean hasNext) {
+    this.hasNext = hasNext;
+    return this;
+  }
+
+  /**
+   * Whether another page follows this one.
+   * @return hasNext
+   */
+  
+  @Schema(name = "hasNext", description = "Whether another page follows this one.", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("hasNext")
+  public Boolean getHasNext() {
+    return hasNext;
+  }
+
+  public void setHasNext(Boolean hasNext) {
+    this.hasNext = hasNext;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -112,12 +156,14 @@ public class TaskPage {
     TaskPage taskPage = (TaskPage) o;
     return Objects.equals(this.tasks, taskPage.tasks) &&
         Objects.equals(this.totalPages, taskPage.totalPages) &&
-        Objects.equals(this.totalItems, taskPage.totalItems);
+        Objects.equals(this.totalItems, taskPage.totalItems) &&
+        Objects.equals(this.nextCursor, taskPage.nextCursor) &&
+        Objects.equals(this.hasNext, taskPage.hasNext);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(tasks, totalPages, totalItems);
+    return Objects.hash(tasks, totalPages, totalItems, nextCursor, hasNext);
   }
 
   @Override
@@ -127,6 +173,8 @@ public class TaskPage {
     sb.append("    tasks: ").append(toIndentedString(tasks)).append("\n");
     sb.append("    totalPages: ").append(toIndentedString(totalPages)).append("\n");
     sb.append("    totalItems: ").append(toIndentedString(totalItems)).append("\n");
+    sb.append("    nextCursor: ").append(toIndentedString(nextCursor)).append("\n");
+    sb.append("    hasNext: ").append(toIndentedString(hasNext)).append("\n");
     sb.append("}");
     return sb.toString();
   }
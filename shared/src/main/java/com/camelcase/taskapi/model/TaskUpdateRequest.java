@@ -97,11 +97,11 @@ public class TaskUpdateRequest {
   }
 
   /**
-   * Get description
+   * Description must be at most 255 characters.
    * @return description
    */
-  
-  @Schema(name = "description", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @Size(max = 255) 
+  @Schema(name = "description", description = "Description must be at most 255 characters.", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
   @JsonProperty("description")
   public String getDescription() {
     return description;
@@ -0,0 +1,84 @@
+package com.camelcase.taskapi.security;
+
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.ExpiredJwtException;
+
+/**
+ * Bearer token check shared by both web stacks: the servlet {@link JwtAuthenticationFilter} and the
+ * reactive module's WebFilter only adapt the request and response around it.
+ */
+public class JwtAuthenticator {
+
+    private static final String[] PUBLIC_ENDPOINTS = {
+        "/api/auth/login",
+        ".html",
+        "favicon.ico",
+        "/v3/api-docs",
+        "/public",
+        "/graphiql"
+    };
+
+    private final JwtTokenCache jwtTokenCache;
+    private final UserStore userStore;
+    private final Set<String> publicPaths;
+
+    public JwtAuthenticator(JwtTokenCache jwtTokenCache, UserStore userStore) {
+        this(jwtTokenCache, userStore, Set.of());
+    }
+
+    // publicPaths: further paths let through without a token, matched exactly
+    public JwtAuthenticator(JwtTokenCache jwtTokenCache, UserStore userStore, Set<String> publicPaths) {
+        this.jwtTokenCache = jwtTokenCache;
+        this.userStore = userStore;
+        this.publicPaths = publicPaths;
+    }
+
+    public boolean isPublicEndpoint(String requestPath) {
+        if ("/".equals(requestPath) || publicPaths.contains(requestPath)) {  // Allow root path
+            return true;
+        }
+        for (String endpoint : PUBLIC_ENDPOINTS) {
+            if (requestPath.endsWith(endpoint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Authenticates the value of an Authorization header.
+     *
+     * @throws TokenRejectedException with the status and message to answer when the token is missing or invalid
+     */
+    public Authentication authenticate(String authHeader) {
+        //  Handle missing token
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new TokenRejectedException(HttpStatus.UNAUTHORIZED, "No authentication token provided.");
+        }
+
+        String token = authHeader.substring(7);
+        try {
+            String username = jwtTokenCache.getUsername(token);
+            // Token-only path: the principal snapshot never carries or checks the password hash
+            UserDetails userDetails = userStore.loadTokenPrincipal(username);
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (ExpiredJwtException e) {
+            throw new TokenRejectedException(HttpStatus.UNAUTHORIZED, "Your session has expired. Please log in again.");
+        } catch (io.jsonwebtoken.MalformedJwtException | io.jsonwebtoken.SignatureException e) {
+            throw new TokenRejectedException(HttpStatus.UNAUTHORIZED, "Invalid authentication token.");
+        } catch (Exception e) {
+            throw new TokenRejectedException(HttpStatus.FORBIDDEN, "Access denied.");
+        }
+    }
+
+    // JSON body written for a rejected token
+    public static String errorBody(String message) {
+        return String.format("{\"error\": \"Unauthorized\", \"message\": \"%s\"}", message);
+    }
+}
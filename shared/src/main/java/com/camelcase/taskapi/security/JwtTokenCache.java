@@ -0,0 +1,106 @@
+package com.camelcase.taskapi.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Bounded cache of already verified bearer tokens.
+ *
+ * Entries are keyed by a SHA-256 digest of the token (the raw token is never kept) and
+ * expire at the token's own {@code exp} claim, so a cache hit can never outlive the token.
+ * Tokens that fail verification are never cached and keep failing through {@link JwtUtil}.
+ */
+@Component
+public class JwtTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, VerifiedToken> cache;
+
+    public JwtTokenCache(JwtUtil jwtUtil, @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the subject of the given token, verifying it only if it has not been seen before.
+     * Throws the same {@link io.jsonwebtoken.JwtException}s as {@link JwtUtil#getClaims(String)} on a miss.
+     */
+    public String getUsername(String token) {
+        String key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.username();
+        }
+
+        Claims claims = jwtUtil.getClaims(token);
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            cache.put(key, new VerifiedToken(claims.getSubject(), expiration.getTime()));
+        }
+        return claims.getSubject();
+    }
+
+    // Hit, miss and eviction counters
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // For JwtTokenCacheMetrics
+    Cache<String, VerifiedToken> nativeCache() {
+        return cache;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    record VerifiedToken(String username, long expiresAtMillis) {
+    }
+
+    // Each entry lives exactly until the token's exp claim
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.camelcase.taskapi.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,9 +19,15 @@ public class JwtUtil {
 
     private final Key key;
 
+    // Parsers are immutable and thread-safe, so build one up front instead of per token
+    private final JwtParser parser;
+
     // Load the secret key from the application properties
     public JwtUtil(@Value("${jwt.secret}") String secret) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser()
+            .verifyWith((SecretKey) key)
+            .build();
     }
 
     public String generateToken(String username) {
@@ -32,10 +40,11 @@ public class JwtUtil {
     }
 
     public String getUsername(String token) {
-        return Jwts.parser()
-            .verifyWith((SecretKey) key)
-            .build().parseSignedClaims(token)
-            .getPayload()
-            .getSubject();
+        return getClaims(token).getSubject();
+    }
+
+    // Verifies the signature and expiry, then returns the token payload
+    public Claims getClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,18 @@
+package com.camelcase.taskapi.security;
+
+import org.springframework.http.HttpStatus;
+
+// A bearer token that must not pass, with the status to answer
+public class TokenRejectedException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public TokenRejectedException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
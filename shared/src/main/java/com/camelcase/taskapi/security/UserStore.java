@@ -0,0 +1,52 @@
+package com.camelcase.taskapi.security;
+
+import java.util.Map;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * In-memory user store. Passwords are hashed once when the store is built, never per lookup.
+ *
+ * Two views of each user are kept:
+ * - {@link #loadUserByUsername(String)} serves the login flow and returns a copy that carries
+ *   the password hash (Spring Security erases credentials on the returned object after login).
+ * - {@link #loadTokenPrincipal(String)} serves already authenticated bearer tokens and returns a
+ *   shared snapshot without any password, so the token path never touches the hash.
+ */
+public class UserStore implements UserDetailsService {
+
+    private final Map<String, UserDetails> credentials;
+    private final Map<String, UserDetails> tokenPrincipals;
+
+    public UserStore(String adminUsername, String adminPassword, PasswordEncoder passwordEncoder) {
+        UserDetails admin = User.withUsername(adminUsername)
+                .password(passwordEncoder.encode(adminPassword))
+                .roles("USER")
+                .build();
+
+        this.credentials = Map.of(adminUsername, admin);
+        this.tokenPrincipals = Map.of(adminUsername, User.withUserDetails(admin).password("").build());
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        UserDetails user = credentials.get(username);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        return User.withUserDetails(user).build();
+    }
+
+    // Principal for a verified token; the returned instance is shared and holds no credentials
+    public UserDetails loadTokenPrincipal(String username) {
+        UserDetails principal = tokenPrincipals.get(username);
+        if (principal == null) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        return principal;
+    }
+}
@@ -0,0 +1,52 @@
+package com.camelcase.taskapi.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.model.Task;
+
+/**
+ * Opaque cursor for keyset pagination. Clients only ever pass back what they were given,
+ * so the encoding (currently the last seen task id) can change without breaking them.
+ */
+public final class TaskCursor {
+
+    private static final String PREFIX = "id:";
+
+    private TaskCursor() {
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for a missing cursor (first page)
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            return Long.valueOf(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // Cursor pointing after the last task of the slice, or null when there is no next page
+    public static String next(Slice<Task> slice) {
+        List<Task> content = slice.getContent();
+        if (!slice.hasNext() || content.isEmpty()) {
+            return null;
+        }
+        return encode(Long.valueOf(content.get(content.size() - 1).getId()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.camelcase.taskapi.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+
+/**
+ * Filter and sort options of a task list request.
+ *
+ * Only combinations that one of the tasks indexes can serve are accepted, everything else is
+ * rejected up front with a BadRequestException instead of turning into a table scan:
+ * - statuses alone, optionally sorted by id: (task_status, id)
+ * - statuses with a due date range and/or due date sort: (task_status, due_date)
+ * - a title prefix, optionally with statuses: (title)
+ * - no filter at all, sorted by id: the primary key
+ *
+ * Kept free of persistence types so the reactive module can share it; the JPA query is built by
+ * {@link com.camelcase.taskapi.repository.TaskSpecifications#matching(TaskFilter)}.
+ */
+public class TaskFilter {
+
+    private final Set<TaskStatusEnum> statuses;
+    private final LocalDate dueFrom;
+    private final LocalDate dueTo;
+    private final String titlePrefix;
+    private final TaskSort sort;
+
+    public TaskFilter(Collection<TaskStatusEnum> statuses, LocalDate dueFrom, LocalDate dueTo, String titlePrefix, TaskSort sort) {
+        this.statuses = statuses == null || statuses.isEmpty() ? EnumSet.noneOf(TaskStatusEnum.class) : EnumSet.copyOf(statuses);
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+        this.titlePrefix = titlePrefix == null || titlePrefix.isBlank() ? null : titlePrefix;
+        this.sort = sort != null ? sort : TaskSort.ID_ASC;
+
+        if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+            throw new BadRequestException("dueFrom must not be after dueTo");
+        }
+        if ((dueFrom != null || dueTo != null || this.sort.isByDueDate()) && this.statuses.isEmpty()) {
+            throw new BadRequestException("Filtering or sorting by due date requires at least one status; pass all statuses to cover every task");
+        }
+        if (this.titlePrefix != null && (dueFrom != null || dueTo != null || this.sort.isByDueDate())) {
+            throw new BadRequestException("titlePrefix cannot be combined with a due date filter or sort");
+        }
+    }
+
+    /**
+     * Builds a filter from REST query parameters (lowercase statuses, ISO dates, sort like "-dueDate").
+     */
+    public static TaskFilter fromParams(Collection<String> statuses, String dueFrom, String dueTo, String titlePrefix, String sort) {
+        Set<TaskStatusEnum> statusSet = EnumSet.noneOf(TaskStatusEnum.class);
+        if (statuses != null) {
+            for (String status : statuses) {
+                if (status == null || status.isBlank()) {
+                    continue;
+                }
+                try {
+                    statusSet.add(TaskStatusEnum.fromString(status.trim()));
+                } catch (IllegalArgumentException e) {
+                    throw new BadRequestException("Invalid status value: " + status);
+                }
+            }
+        }
+        return new TaskFilter(statusSet, parseDate("dueFrom", dueFrom), parseDate("dueTo", dueTo), titlePrefix,
+                TaskSort.fromString(sort));
+    }
+
+    private static LocalDate parseDate(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid " + name + " value: " + value);
+        }
+    }
+
+    // True when the filter is at most a status filter in id order, which the derived queries cover as well
+    public boolean isStatusOnly() {
+        return dueFrom == null && dueTo == null && titlePrefix == null && sort == TaskSort.ID_ASC;
+    }
+
+    public Set<TaskStatusEnum> getStatuses() {
+        return statuses;
+    }
+
+    public LocalDate getDueFrom() {
+        return dueFrom;
+    }
+
+    public LocalDate getDueTo() {
+        return dueTo;
+    }
+
+    public String getTitlePrefix() {
+        return titlePrefix;
+    }
+
+    public TaskSort getSort() {
+        return sort;
+    }
+
+    // With a single status, that (constant) status is sorted first as well so the order matches the
+    // (task_status, ...) index and the database can read it in order instead of sorting
+    public Sort toSort() {
+        Sort.Direction direction = sort == TaskSort.ID_DESC || sort == TaskSort.DUE_DATE_DESC
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+        Sort order = sort.isByDueDate()
+                ? Sort.by(direction, "dueDate", "id")
+                : Sort.by(direction, "id");
+        return statuses.size() == 1 && titlePrefix == null ? Sort.by(direction, "taskStatus").and(order) : order;
+    }
+}
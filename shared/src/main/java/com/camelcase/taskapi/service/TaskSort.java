@@ -0,0 +1,43 @@
+package com.camelcase.taskapi.service;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+
+/**
+ * Sort orders offered on task lists. Every order ends on id, so pages are stable.
+ */
+public enum TaskSort {
+    // Oldest first (default)
+    ID_ASC("id"),
+    ID_DESC("-id"),
+    // Earliest due date first; needs a status filter so it can read the (task_status, due_date) index
+    DUE_DATE_ASC("dueDate"),
+    DUE_DATE_DESC("-dueDate");
+
+    private final String value;
+
+    TaskSort(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isByDueDate() {
+        return this == DUE_DATE_ASC || this == DUE_DATE_DESC;
+    }
+
+    // Parses the REST form: a field name, prefixed with '-' for descending order
+    public static TaskSort fromString(String sort) {
+        if (sort == null || sort.isEmpty()) {
+            return ID_ASC;
+        }
+
+        for (TaskSort taskSort : values()) {
+            if (taskSort.value.equals(sort)) {
+                return taskSort;
+            }
+        }
+        throw new BadRequestException("Invalid sort value: " + sort);
+    }
+}
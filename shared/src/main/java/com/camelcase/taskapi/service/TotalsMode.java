@@ -0,0 +1,27 @@
+package com.camelcase.taskapi.service;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+
+/**
+ * How list requests fill in totalItems/totalPages.
+ */
+public enum TotalsMode {
+    // Exact totals from a count query (default)
+    EXACT,
+    // No totals, only hasNext; skips the count query entirely
+    NONE,
+    // Totals served from the in-memory per-status counters kept by TaskCounters
+    ESTIMATED;
+
+    public static TotalsMode fromString(String mode) {
+        if (mode == null || mode.isEmpty()) {
+            return EXACT;
+        }
+
+        try {
+            return TotalsMode.valueOf(mode.toUpperCase()); // Convert string to enum (case-insensitive)
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid totals value: " + mode);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.camelcase.taskapi.security;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JwtAuthenticatorTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-32-characters-long";
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticator jwtAuthenticator;
+
+    @BeforeEach
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        UserStore userStore = new UserStore("admin", "BlueSky", new BCryptPasswordEncoder(4));
+        jwtAuthenticator = new JwtAuthenticator(new JwtTokenCache(jwtUtil, 100), userStore);
+    }
+
+    @Test
+    public void testValidTokenAuthenticatesTheUser() {
+        Authentication authentication = jwtAuthenticator.authenticate("Bearer " + jwtUtil.generateToken("admin"));
+
+        assertThat(authentication.getName()).isEqualTo("admin");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    public void testMissingTokenIsUnauthorized() {
+        TokenRejectedException e = assertThrows(TokenRejectedException.class, () -> jwtAuthenticator.authenticate(null));
+
+        assertThat(e.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(e.getMessage()).isEqualTo("No authentication token provided.");
+    }
+
+    @Test
+    public void testMalformedTokenIsUnauthorized() {
+        TokenRejectedException e = assertThrows(TokenRejectedException.class, () -> jwtAuthenticator.authenticate("Bearer nonsense"));
+
+        assertThat(e.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(e.getMessage()).isEqualTo("Invalid authentication token.");
+    }
+
+    @Test
+    public void testUnknownUserIsForbidden() {
+        TokenRejectedException e = assertThrows(TokenRejectedException.class,
+                () -> jwtAuthenticator.authenticate("Bearer " + jwtUtil.generateToken("nobody")));
+
+        assertThat(e.getStatus()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    public void testPublicEndpoints() {
+        assertThat(jwtAuthenticator.isPublicEndpoint("/")).isTrue();
+        assertThat(jwtAuthenticator.isPublicEndpoint("/api/auth/login")).isTrue();
+        assertThat(jwtAuthenticator.isPublicEndpoint("/swagger-ui/index.html")).isTrue();
+        assertThat(jwtAuthenticator.isPublicEndpoint("/tasks")).isFalse();
+        assertThat(jwtAuthenticator.isPublicEndpoint("/actuator/prometheus")).isFalse();
+    }
+
+    @Test
+    public void testExtraPublicPathsMatchExactly() {
+        JwtAuthenticator authenticator = new JwtAuthenticator(new JwtTokenCache(jwtUtil, 100),
+                new UserStore("admin", "BlueSky", new BCryptPasswordEncoder(4)), Set.of("/actuator/prometheus"));
+
+        assertThat(authenticator.isPublicEndpoint("/actuator/prometheus")).isTrue();
+        assertThat(authenticator.isPublicEndpoint("/tasks/actuator/prometheus")).isFalse();
+    }
+}
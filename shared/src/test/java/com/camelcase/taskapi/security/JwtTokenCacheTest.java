@@ -0,0 +1,49 @@
+package com.camelcase.taskapi.security;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class JwtTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-32-characters-long";
+
+    private JwtUtil jwtUtil;
+    private JwtTokenCache jwtTokenCache;
+
+    @BeforeEach
+    public void setUp() {
+        jwtUtil = spy(new JwtUtil(SECRET));
+        jwtTokenCache = new JwtTokenCache(jwtUtil, 100);
+    }
+
+    @Test
+    public void testRepeatedTokenIsVerifiedOnce() {
+        String token = jwtUtil.generateToken("admin");
+
+        assertThat(jwtTokenCache.getUsername(token)).isEqualTo("admin");
+        assertThat(jwtTokenCache.getUsername(token)).isEqualTo("admin");
+        assertThat(jwtTokenCache.getUsername(token)).isEqualTo("admin");
+
+        verify(jwtUtil, times(1)).getClaims(token);
+        assertThat(jwtTokenCache.stats().missCount()).isEqualTo(1);
+        assertThat(jwtTokenCache.stats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidTokenIsNotCached() {
+        String forged = new JwtUtil("another-secret-key-that-is-at-least-32-characters").generateToken("admin");
+
+        assertThrows(JwtException.class, () -> jwtTokenCache.getUsername(forged));
+        assertThrows(JwtException.class, () -> jwtTokenCache.getUsername(forged));
+
+        verify(jwtUtil, times(2)).getClaims(forged);
+        assertThat(jwtTokenCache.size()).isZero();
+    }
+}
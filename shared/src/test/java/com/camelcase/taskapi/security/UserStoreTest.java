@@ -0,0 +1,61 @@
+package com.camelcase.taskapi.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class UserStoreTest {
+
+    private PasswordEncoder passwordEncoder;
+    private UserStore userStore;
+
+    @BeforeEach
+    public void setUp() {
+        passwordEncoder = spy(new BCryptPasswordEncoder(4));
+        userStore = new UserStore("admin", "BlueSky", passwordEncoder);
+    }
+
+    @Test
+    public void testPasswordIsHashedOnceAtStartup() {
+        for (int i = 0; i < 100; i++) {
+            userStore.loadUserByUsername("admin");
+            userStore.loadTokenPrincipal("admin");
+        }
+
+        verify(passwordEncoder, times(1)).encode(anyString());
+    }
+
+    @Test
+    public void testLoginCopySurvivesCredentialErasure() {
+        ((User) userStore.loadUserByUsername("admin")).eraseCredentials();
+
+        UserDetails user = userStore.loadUserByUsername("admin");
+
+        assertThat(passwordEncoder.matches("BlueSky", user.getPassword())).isTrue();
+    }
+
+    @Test
+    public void testTokenPrincipalHasNoPasswordHash() {
+        UserDetails principal = userStore.loadTokenPrincipal("admin");
+
+        assertThat(principal.getPassword()).isEmpty();
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    public void testUnknownUser() {
+        assertThrows(UsernameNotFoundException.class, () -> userStore.loadUserByUsername("nobody"));
+        assertThrows(UsernameNotFoundException.class, () -> userStore.loadTokenPrincipal("nobody"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.camelcase.taskapi.service;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TaskFilterTest {
+
+    @Test
+    public void testDueDateFilterRequiresStatus() {
+        assertThrows(BadRequestException.class, () -> TaskFilter.fromParams(null, "2024-01-01", null, null, null));
+        assertThrows(BadRequestException.class, () -> TaskFilter.fromParams(List.of(), null, null, null, "dueDate"));
+    }
+
+    @Test
+    public void testInvalidValuesAreBadRequests() {
+        assertThrows(BadRequestException.class, () -> TaskFilter.fromParams(List.of("done"), null, null, null, null));
+        assertThrows(BadRequestException.class, () -> TaskFilter.fromParams(List.of("pending"), "01/01/2024", null, null, null));
+        assertThrows(BadRequestException.class, () -> TaskFilter.fromParams(List.of("pending"), "2024-02-01", "2024-01-01", null, null));
+        assertThrows(BadRequestException.class, () -> TaskFilter.fromParams(null, null, null, null, "title"));
+        assertThrows(BadRequestException.class, () -> TaskFilter.fromParams(List.of("pending"), "2024-01-01", null, "Rep", null));
+    }
+
+    @Test
+    public void testSortFollowsStatusIndex() {
+        TaskFilter single = TaskFilter.fromParams(List.of("pending"), "2024-01-01", null, null, "-dueDate");
+        TaskFilter multiple = TaskFilter.fromParams(List.of("pending", "completed"), null, null, null, null);
+
+        assertThat(single.toSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "taskStatus", "dueDate", "id"));
+        assertThat(multiple.toSort()).isEqualTo(Sort.by("id"));
+        assertThat(multiple.getStatuses()).containsExactly(TaskStatusEnum.PENDING, TaskStatusEnum.COMPLETED);
+        assertThat(multiple.isStatusOnly()).isTrue();
+    }
+
+    @Test
+    public void testBlankTitlePrefixIsIgnored() {
+        assertThat(TaskFilter.fromParams(null, null, null, "  ", null).isStatusOnly()).isTrue();
+    }
+}
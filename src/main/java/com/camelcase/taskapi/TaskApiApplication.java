@@ -2,8 +2,10 @@ package com.camelcase.taskapi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TaskApiApplication {
     public static void main(String[] args) {
         SpringApplication.run(TaskApiApplication.class, args);
@@ -104,8 +104,10 @@ public interface TasksApi {
      * Permanently remove a task by its ID (hard delete).
      *
      * @param id  (required)
+     * @param ifMatch ETag of the task the change is based on; answered with 412 when the task has changed since. (optional)
      * @return Task deleted successfully. (status code 200)
      *         or Task not found. (status code 404)
+     *         or The task has changed since the ETag given in If-Match. (status code 412)
      */
     @Operation(
         operationId = "delete",
@@ -117,6 +119,9 @@ public interface TasksApi {
             }),
             @ApiResponse(responseCode = "404", description = "Task not found.", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
+            }),
+            @ApiResponse(responseCode = "412", description = "The task has changed since the ETag given in If-Match.", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
             })
         },
         security = {
@@ -130,7 +135,8 @@ public interface TasksApi {
     )
     
     default ResponseEntity<Delete200Response> delete(
-        @Parameter(name = "id", description = "", required = true, in = ParameterIn.PATH) @PathVariable("id") String id
+        @Parameter(name = "id", description = "", required = true, in = ParameterIn.PATH) @PathVariable("id") String id,
+        @Parameter(name = "If-Match", description = "ETag of the task the change is based on; answered with 412 when the task has changed since.", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -157,8 +163,19 @@ public interface TasksApi {
      *
      * @param taskStatus Filter tasks by taskStatus. (optional)
      * @param page Pagination - page number. (optional, default to 1)
-     * @param size Pagination - number of tasks per page. (optional, default to 10)
+     * @param size Pagination - number of tasks per page, at most tasks.page.max-size (100 by default). (optional, default to 10)
+     * @param after Cursor pagination - opaque cursor returned as nextCursor by the previous page. (optional)
+     * @param limit Cursor pagination - number of tasks per page, at most tasks.page.max-size. Setting after or limit switches to cursor mode. (optional)
+     * @param totals How totalItems/totalPages are computed - exact (count query), none (hasNext only) or estimated (in-memory counters). (optional, default to exact)
+     * @param statuses Filter tasks by any of these statuses, comma separated. Combined with taskStatus. (optional)
+     * @param dueFrom Only tasks due on or after this date (YYYY-MM-DD). Requires a status filter. (optional)
+     * @param dueTo Only tasks due on or before this date (YYYY-MM-DD). Requires a status filter. (optional)
+     * @param titlePrefix Only tasks whose title starts with this text (case sensitive). (optional)
+     * @param sort Sort order - id, -id, dueDate or -dueDate. Sorting by dueDate requires a status filter; cursor mode only supports id. (optional, default to id)
+     * @param fields Task properties to return, comma separated; id is always returned. Only these columns are read. (optional)
      * @return List of tasks retrieved successfully. (status code 200)
+     *         or The page is unchanged since the ETag given in If-None-Match. (status code 304)
+     *         or Invalid filter, sort or pagination parameters. (status code 400)
      */
     @Operation(
         operationId = "findAll",
@@ -167,6 +184,10 @@ public interface TasksApi {
         responses = {
             @ApiResponse(responseCode = "200", description = "List of tasks retrieved successfully.", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = TaskPage.class))
+            }),
+            @ApiResponse(responseCode = "304", description = "The page is unchanged since the ETag given in If-None-Match."),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, sort or pagination parameters.", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
             })
         },
         security = {
@@ -182,12 +203,21 @@ public interface TasksApi {
     default ResponseEntity<TaskPage> findAll(
         @Parameter(name = "taskStatus", description = "Filter tasks by taskStatus.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "taskStatus", required = false) String taskStatus,
         @Parameter(name = "page", description = "Pagination - page number.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
-        @Parameter(name = "size", description = "Pagination - number of tasks per page.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "10") Integer size
+        @Parameter(name = "size", description = "Pagination - number of tasks per page, at most tasks.page.max-size (100 by default).", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "10") Integer size,
+        @Parameter(name = "after", description = "Cursor pagination - opaque cursor returned as nextCursor by the previous page.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "after", required = false) String after,
+        @Parameter(name = "limit", description = "Cursor pagination - number of tasks per page, at most tasks.page.max-size. Setting after or limit switches to cursor mode.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "limit", required = false) Integer limit,
+        @Parameter(name = "totals", description = "How totalItems/totalPages are computed - exact (count query), none (hasNext only) or estimated (in-memory counters).", in = ParameterIn.QUERY) @Valid @RequestParam(value = "totals", required = false, defaultValue = "exact") String totals,
+        @Parameter(name = "statuses", description = "Filter tasks by any of these statuses, comma separated. Combined with taskStatus.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "statuses", required = false) List<String> statuses,
+        @Parameter(name = "dueFrom", description = "Only tasks due on or after this date (YYYY-MM-DD). Requires a status filter.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "dueFrom", required = false) String dueFrom,
+        @Parameter(name = "dueTo", description = "Only tasks due on or before this date (YYYY-MM-DD). Requires a status filter.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "dueTo", required = false) String dueTo,
+        @Parameter(name = "titlePrefix", description = "Only tasks whose title starts with this text (case sensitive).", in = ParameterIn.QUERY) @Valid @RequestParam(value = "titlePrefix", required = false) String titlePrefix,
+        @Parameter(name = "sort", description = "Sort order - id, -id, dueDate or -dueDate. Sorting by dueDate requires a status filter; cursor mode only supports id.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "sort", required = false, defaultValue = "id") String sort,
+        @Parameter(name = "fields", description = "Task properties to return, comma separated; id is always returned. Only these columns are read.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "fields", required = false) List<String> fields
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"totalItems\" : 6, \"totalPages\" : 0, \"tasks\" : [ { \"dueDate\" : \"2000-01-23\", \"description\" : \"description\", \"id\" : \"id\", \"title\" : \"title\", \"taskStatus\" : \"pending\" }, { \"dueDate\" : \"2000-01-23\", \"description\" : \"description\", \"id\" : \"id\", \"title\" : \"title\", \"taskStatus\" : \"pending\" } ] }";
+                    String exampleString = "{ \"totalItems\" : 6, \"nextCursor\" : \"nextCursor\", \"hasNext\" : true, \"totalPages\" : 0, \"tasks\" : [ { \"dueDate\" : \"2000-01-23\", \"description\" : \"description\", \"id\" : \"id\", \"title\" : \"title\", \"taskStatus\" : \"pending\" }, { \"dueDate\" : \"2000-01-23\", \"description\" : \"description\", \"id\" : \"id\", \"title\" : \"title\", \"taskStatus\" : \"pending\" } ] }";
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
                     break;
                 }
@@ -204,6 +234,7 @@ public interface TasksApi {
      *
      * @param id  (required)
      * @return Task details retrieved successfully. (status code 200)
+     *         or The task is unchanged since the ETag or date given. (status code 304)
      *         or Task not found. (status code 404)
      */
     @Operation(
@@ -214,6 +245,7 @@ public interface TasksApi {
             @ApiResponse(responseCode = "200", description = "Task details retrieved successfully.", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))
             }),
+            @ApiResponse(responseCode = "304", description = "The task is unchanged since the ETag or date given."),
             @ApiResponse(responseCode = "404", description = "Task not found.", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
             })
@@ -256,9 +288,11 @@ public interface TasksApi {
      *
      * @param id  (required)
      * @param taskUpdateRequest  (required)
+     * @param ifMatch ETag of the task the change is based on; answered with 412 when the task has changed since. (optional)
      * @return Task updated successfully. (status code 200)
      *         or Validation error. (status code 400)
      *         or Task not found. (status code 404)
+     *         or The task has changed since the ETag given in If-Match. (status code 412)
      */
     @Operation(
         operationId = "update",
@@ -273,6 +307,9 @@ public interface TasksApi {
             }),
             @ApiResponse(responseCode = "404", description = "Task not found.", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
+            }),
+            @ApiResponse(responseCode = "412", description = "The task has changed since the ETag given in If-Match.", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
             })
         },
         security = {
@@ -288,7 +325,8 @@ public interface TasksApi {
     
     default ResponseEntity<Task> update(
         @Parameter(name = "id", description = "", required = true, in = ParameterIn.PATH) @PathVariable("id") String id,
-        @Parameter(name = "TaskUpdateRequest", description = "", required = true) @Valid @RequestBody TaskUpdateRequest taskUpdateRequest
+        @Parameter(name = "TaskUpdateRequest", description = "", required = true) @Valid @RequestBody TaskUpdateRequest taskUpdateRequest,
+        @Parameter(name = "If-Match", description = "ETag of the task the change is based on; answered with 412 when the task has changed since.", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -0,0 +1,13 @@
+package com.camelcase.taskapi.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns on Spring's cache abstraction. The provider and its bounds come from {@code spring.cache.*}
+ * (Caffeine by default, see application.yml), so another provider can be plugged in by configuration only.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
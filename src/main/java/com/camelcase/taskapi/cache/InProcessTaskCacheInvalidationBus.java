@@ -0,0 +1,25 @@
+package com.camelcase.taskapi.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations synchronously to subscribers in the same JVM.
+ * Stand-in for a broker-backed bus, e.g. to run several {@link TaskCache}s as "nodes" in a test.
+ */
+public class InProcessTaskCacheInvalidationBus implements TaskCacheInvalidationBus {
+
+    private final List<Consumer<Collection<Long>>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Collection<Long> ids) {
+        listeners.forEach(listener -> listener.accept(ids));
+    }
+
+    @Override
+    public void subscribe(Consumer<Collection<Long>> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,79 @@
+package com.camelcase.taskapi.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.camelcase.taskapi.model.Task;
+
+/**
+ * Read-through cache of mapped {@link Task} DTOs keyed by task id.
+ *
+ * Writers evict after their change is committed; evictions are also published on the
+ * {@link TaskCacheInvalidationBus} so other nodes drop their copies. A read racing a write could
+ * still cache the old row after the eviction, so readers take a {@link #stamp()} before reading the
+ * database and {@link #put} drops the task again when any eviction happened on this node since.
+ * Cached instances are shared, callers must not modify them.
+ */
+@Component
+public class TaskCache {
+
+    public static final String NAME = "tasks";
+
+    private final Cache cache;
+    private final TaskCacheInvalidationBus invalidationBus;
+    // Evictions on this node so far, local and from the bus
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TaskCache(CacheManager cacheManager, ObjectProvider<TaskCacheInvalidationBus> invalidationBus) {
+        this.cache = cacheManager.getCache(NAME);
+        if (this.cache == null) {
+            throw new IllegalStateException("Cache '" + NAME + "' is not configured");
+        }
+        this.invalidationBus = invalidationBus.getIfAvailable(() -> TaskCacheInvalidationBus.NONE);
+        this.invalidationBus.subscribe(this::evictLocally);
+    }
+
+    // Cached task, or null on a miss
+    public Task get(Long id) {
+        return cache.get(id, Task.class);
+    }
+
+    // To be taken before reading the task(s) to put
+    public long stamp() {
+        return evictions.get();
+    }
+
+    // Caches a task read after the given stamp was taken, unless an eviction happened in between:
+    // the task may then be older than the write that was evicted. Checked after the put, so an
+    // eviction that lands between the check and the put cannot be missed either.
+    public void put(Long id, Task task, long stamp) {
+        cache.put(id, task);
+        if (evictions.get() != stamp) {
+            cache.evict(id);
+        }
+    }
+
+    public void evict(Long id) {
+        evict(List.of(id));
+    }
+
+    public void evict(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        evictLocally(ids);
+        invalidationBus.publish(ids);
+    }
+
+    private void evictLocally(Collection<Long> ids) {
+        // Counted first, so a put that still sees the old count happened before these evictions
+        evictions.incrementAndGet();
+        ids.forEach(cache::evict);
+    }
+}
@@ -0,0 +1,28 @@
+package com.camelcase.taskapi.cache;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Hook for invalidating task caches on other nodes.
+ *
+ * Every id written on this node is published; implementations deliver it to the subscribers on
+ * every node (this one included, eviction is idempotent). Without a bean of this type the cache
+ * is node-local and {@link #NONE} is used.
+ */
+public interface TaskCacheInvalidationBus {
+
+    TaskCacheInvalidationBus NONE = new TaskCacheInvalidationBus() {
+        @Override
+        public void publish(Collection<Long> ids) {
+        }
+
+        @Override
+        public void subscribe(Consumer<Collection<Long>> listener) {
+        }
+    };
+
+    void publish(Collection<Long> ids);
+
+    void subscribe(Consumer<Collection<Long>> listener);
+}
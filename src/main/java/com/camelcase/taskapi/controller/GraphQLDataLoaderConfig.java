@@ -0,0 +1,25 @@
+package com.camelcase.taskapi.controller;
+
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.service.TaskService;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * DataLoaders for GraphQL fetchers.
+ *
+ * Every task id requested while executing one document is collected and loaded with a single
+ * {@code findAllById} (IN query), so 50 aliased {@code task(id:)} fields cost one round trip.
+ * Fetchers get the loader by declaring a {@code DataLoader<Long, Task>} parameter; relationship
+ * fields that point at tasks should load through it too.
+ */
+@Configuration
+public class GraphQLDataLoaderConfig {
+
+    public GraphQLDataLoaderConfig(BatchLoaderRegistry registry, TaskService taskService) {
+        registry.forTypePair(Long.class, Task.class)
+                .registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() -> taskService.getAll(ids)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.camelcase.taskapi.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.camelcase.taskapi.dto.BatchResult;
+import com.camelcase.taskapi.dto.TaskBatchUpdateItem;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.service.TaskBatchService;
+
+// Bulk endpoints. Mapped without a class-level prefix because "/tasks:batch" is a single path segment.
+@RestController
+public class TaskBatchController {
+
+    private final TaskBatchService taskBatchService;
+
+    public TaskBatchController(TaskBatchService taskBatchService) {
+        this.taskBatchService = taskBatchService;
+    }
+
+    // Create many tasks in one call
+    @PostMapping(value = "/tasks:batch", consumes = "application/json", produces = "application/json")
+    public ResponseEntity<BatchResult> createBatch(@RequestBody List<TaskCreateRequest> requests) {
+        return ResponseEntity.ok(taskBatchService.createAll(requests));
+    }
+
+    // Partially update many tasks in one call
+    @PatchMapping(value = "/tasks:batch", consumes = "application/json", produces = "application/json")
+    public ResponseEntity<BatchResult> updateBatch(@RequestBody List<TaskBatchUpdateItem> items) {
+        return ResponseEntity.ok(taskBatchService.updateAll(items));
+    }
+
+    // Delete many tasks in one call
+    @DeleteMapping(value = "/tasks:batch", consumes = "application/json", produces = "application/json")
+    public ResponseEntity<BatchResult> deleteBatch(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(taskBatchService.deleteAll(ids));
+    }
+}
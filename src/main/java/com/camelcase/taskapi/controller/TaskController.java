@@ -6,25 +6,35 @@ import com.camelcase.taskapi.model.Task;
 import com.camelcase.taskapi.model.TaskCreateRequest;
 import com.camelcase.taskapi.model.TaskPage;
 import com.camelcase.taskapi.model.TaskUpdateRequest;
+import com.camelcase.taskapi.service.TaskFilter;
 import com.camelcase.taskapi.service.TaskService;
+import com.camelcase.taskapi.service.TotalsMode;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.validation.Valid;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.Optional;
 
 
 
 @RestController
 @RequestMapping("/tasks")
+@Observed(name = "tasks.controller")
 public class TaskController implements TasksApi {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
 
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TaskService taskService;
 
     public TaskController(TaskService taskService) {
@@ -32,57 +42,104 @@ public class TaskController implements TasksApi {
     }
 
     // Get all tasks with pagination & optional filtering
+    // Passing `after` or `limit` switches from page numbers to cursor (keyset) pagination
+    // A plain status filter keeps using the derived queries; anything richer goes through TaskFilter
+    // `fields` reads only those columns and TaskFieldsAdvice writes only those properties
     @GetMapping
     @Override
     public ResponseEntity<TaskPage> findAll(
             @Valid @RequestParam(required = false) String status,
             @Valid @RequestParam(defaultValue = "1") Integer page,
-            @Valid @RequestParam(defaultValue = "10") Integer size
+            @Valid @RequestParam(defaultValue = "10") Integer size,
+            @Valid @RequestParam(required = false) String after,
+            @Valid @RequestParam(required = false) Integer limit,
+            @Valid @RequestParam(defaultValue = "exact") String totals,
+            @Valid @RequestParam(required = false) List<String> statuses,
+            @Valid @RequestParam(required = false) String dueFrom,
+            @Valid @RequestParam(required = false) String dueTo,
+            @Valid @RequestParam(required = false) String titlePrefix,
+            @Valid @RequestParam(required = false) String sort,
+            @Valid @RequestParam(required = false) List<String> fields
             ) {
-        Page<Task> tasks = taskService.findAll(page, size, status);
-        TaskPage taskPage = new TaskPage();
-        taskPage.setTasks(tasks.getContent());
-        taskPage.setTotalPages(tasks.getTotalPages());
-        taskPage.setTotalItems((int) tasks.getTotalElements());
-        return ResponseEntity.ok(taskPage);
+        List<String> allStatuses = new ArrayList<>();
+        if (status != null) {
+            allStatuses.add(status);
+        }
+        if (statuses != null) {
+            allStatuses.addAll(statuses);
+        }
+        TaskFilter filter = TaskFilter.fromParams(allStatuses, dueFrom, dueTo, titlePrefix, sort);
+        Set<String> taskFields = TaskFields.parse(fields);
+        boolean plainStatus = filter.isStatusOnly() && filter.getStatuses().size() <= 1 && taskFields == null;
+        String singleStatus = filter.getStatuses().isEmpty() ? null : filter.getStatuses().iterator().next().name();
+
+        if (after != null || limit != null) {
+            int pageSize = limit != null ? limit : size;
+            Slice<Task> tasks = plainStatus
+                    ? taskService.findAfter(after, pageSize, singleStatus)
+                    : taskService.findAfter(filter, after, pageSize, taskFields);
+            return conditional(TaskPages.ofCursor(tasks));
+        }
+
+        TotalsMode totalsMode = TotalsMode.fromString(totals);
+        Slice<Task> tasks = plainStatus
+                ? taskService.findAll(page, size, singleStatus, totalsMode)
+                : taskService.findAll(filter, page, size, totalsMode, taskFields);
+        return conditional(TaskPages.of(tasks));
     }
 
     // Create a new task
     @PostMapping
     @Override
     public ResponseEntity<Task> create(@Valid @RequestBody TaskCreateRequest request) {
-
-        logger.info("Craete Task: {}", request);
         Task task = taskService.create(request);
+        logger.debug("Created task {}", task.getId());
         return ResponseEntity.ok(task);
     }
 
-    // Get a specific task by ID
+    // Get a specific task by ID, answered with 304 when the client still has its current version
     @GetMapping("/{id}")
     @Override
     public ResponseEntity<Task> get(@PathVariable String id) {
         Task task = taskService.get(id);
-        return task != null ? ResponseEntity.ok(task) : ResponseEntity.notFound().build();
+        if (task == null) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(TaskETags.of(task));
+        if (task.getUpdatedAt() != null) {
+            response.lastModified(task.getUpdatedAt().toInstant());
+        }
+        return response.body(task);
     }
 
-    // Update a task by ID
+    // Spring MVC compares the ETag with If-None-Match on GET and sends 304 without writing the body.
+    // Clients may keep the response but must revalidate it on every use.
+    private static ResponseEntity<TaskPage> conditional(TaskPage taskPage) {
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(TaskETags.of(taskPage))
+                .body(taskPage);
+    }
+
+    // Update a task by ID; with If-Match only while the task is still at that version
     @PutMapping("/{id}")
     @Override
-    public ResponseEntity<Task> update(@PathVariable String id, @Valid @RequestBody TaskUpdateRequest request) {
-        Optional<Task> existingTask = Optional.ofNullable(taskService.get(id));
-        if (existingTask.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-        Task updatedTask = taskService.update(id, request);
-        return ResponseEntity.ok(updatedTask);
+    public ResponseEntity<Task> update(@PathVariable String id, @Valid @RequestBody TaskUpdateRequest request,
+                                       @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        Task updatedTask = taskService.update(id, request, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(updatedTask))
+                .body(updatedTask);
     }
 
-    // Delete a task by ID
+    // Delete a task by ID; with If-Match only while the task is still at that version
     @DeleteMapping("/{id}")
     @Override
-    public ResponseEntity<Delete200Response> delete(@PathVariable String id) {
-        taskService.get(id);  // throws ResourceNotFoundException if task not found
-        taskService.delete(id);
+    public ResponseEntity<Delete200Response> delete(@PathVariable String id,
+                                                    @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        taskService.delete(id, TaskETags.expectedVersion(ifMatch));  // throws ResourceNotFoundException if task not found
         
         Delete200Response response = new Delete200Response();
         response.setSuccess(true);
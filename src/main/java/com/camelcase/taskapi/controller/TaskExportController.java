@@ -0,0 +1,37 @@
+package com.camelcase.taskapi.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.camelcase.taskapi.service.TaskExportService;
+import com.camelcase.taskapi.service.TaskFileFormat;
+
+// Bulk export, streamed so the full task set is never held in memory
+@RestController
+public class TaskExportController {
+
+    private final TaskExportService taskExportService;
+
+    public TaskExportController(TaskExportService taskExportService) {
+        this.taskExportService = taskExportService;
+    }
+
+    // Download every task as NDJSON (default) or CSV
+    @GetMapping("/tasks/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        TaskFileFormat fileFormat = TaskFileFormat.fromString(format);
+        StreamingResponseBody body = out -> taskExportService.export(fileFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fileFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("tasks." + fileFormat.getExtension()).build().toString())
+                .body(body);
+    }
+}
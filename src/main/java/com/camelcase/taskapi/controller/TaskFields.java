@@ -0,0 +1,40 @@
+package com.camelcase.taskapi.controller;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+
+// The fields= sparse fieldset of GET /tasks: the Task properties a client asks for, always including the id
+public final class TaskFields {
+
+    // Task properties in the order they are written
+    public static final List<String> NAMES = List.of("id", "title", "description", "taskStatus", "dueDate", "version", "updatedAt");
+
+    private TaskFields() {
+    }
+
+    // The requested property names plus the id, or null (all properties) when fields= is absent or blank
+    public static Set<String> parse(List<String> fields) {
+        if (fields == null) {
+            return null;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String field : fields) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!NAMES.contains(name)) {
+                throw new BadRequestException("Unknown task field " + name + ", expected any of " + String.join(",", NAMES));
+            }
+            names.add(name);
+        }
+        if (names.isEmpty()) {
+            return null;
+        }
+        names.add("id");
+        return names;
+    }
+}
@@ -0,0 +1,58 @@
+package com.camelcase.taskapi.controller;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskPage;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Writes only the Task properties listed in fields= (see {@link TaskFields}) for the pages of GET /tasks.
+ *
+ * Task is serialised through a named Jackson property filter that passes every property unless a response
+ * picks other filters, so nothing changes for other responses, and the trimmed tasks are never copied:
+ * the properties that were not asked for are skipped while writing.
+ */
+@RestControllerAdvice(assignableTypes = TaskController.class)
+public class TaskFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice implements Jackson2ObjectMapperBuilderCustomizer {
+
+    static final String FILTER = "taskFields";
+
+    @JsonFilter(FILTER)
+    interface FilteredTask {
+    }
+
+    @Override
+    public void customize(Jackson2ObjectMapperBuilder builder) {
+        builder.mixIn(Task.class, FilteredTask.class)
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(bodyContainer.getValue() instanceof TaskPage) || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        String[] fields = servletRequest.getServletRequest().getParameterValues("fields");
+        // Already validated by the controller
+        Set<String> names = fields != null ? TaskFields.parse(Arrays.stream(fields).flatMap(field -> Arrays.stream(field.split(","))).toList()) : null;
+        if (names != null) {
+            bodyContainer.setFilters(new SimpleFilterProvider().addFilter(FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+        }
+    }
+}
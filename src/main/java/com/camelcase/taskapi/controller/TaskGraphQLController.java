@@ -1,14 +1,26 @@
 package com.camelcase.taskapi.controller;
 
+import com.camelcase.taskapi.dto.BatchResult;
+import com.camelcase.taskapi.dto.TaskBatchUpdateItem;
+import com.camelcase.taskapi.dto.TaskStatusTotal;
 import com.camelcase.taskapi.exception.ResourceNotFoundException;
 import com.camelcase.taskapi.model.Delete200Response;
 import com.camelcase.taskapi.model.Task;
 import com.camelcase.taskapi.model.TaskCreateRequest;
 import com.camelcase.taskapi.model.TaskPage;
 import com.camelcase.taskapi.model.TaskUpdateRequest;
+import com.camelcase.taskapi.service.TaskBatchService;
+import com.camelcase.taskapi.service.TaskFilter;
+import com.camelcase.taskapi.service.TaskSearchService;
 import com.camelcase.taskapi.service.TaskService;
+import com.camelcase.taskapi.service.TaskSort;
+import com.camelcase.taskapi.service.TotalsMode;
 import com.camelcase.taskapi.model.entity.TaskStatusEnum;
-import org.springframework.data.domain.Page;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import io.micrometer.observation.annotation.Observed;
+import graphql.schema.SelectedField;
+import org.dataloader.DataLoader;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
@@ -16,37 +28,90 @@ import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
 @Controller
+@Observed(name = "tasks.controller")
 public class TaskGraphQLController {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskGraphQLController.class);
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
+    private final TaskSearchService taskSearchService;
 
-    public TaskGraphQLController(TaskService taskService) {
+    public TaskGraphQLController(TaskService taskService, TaskBatchService taskBatchService, TaskSearchService taskSearchService) {
         this.taskService = taskService;
+        this.taskBatchService = taskBatchService;
+        this.taskSearchService = taskSearchService;
     }
 
     /**
      * Query to fetch a paginated list of tasks.
+     * Passing `after` or `limit` switches to cursor (keyset) pagination;
+     * `totals` picks exact, estimated or no totals for page-number pagination.
+     * Filters and sort follow the same index-backed rules as GET /tasks (see TaskFilter).
+     * Only the selected task fields are read from the database, and totals are
+     * not computed at all unless totalItems or totalPages is selected.
      */
     @QueryMapping(name = "taskPage")
-    public TaskPage taskPage(@Argument int page, @Argument int size, @Argument TaskStatusEnum taskStatus) {
-        Page<Task> pageResult = taskService.findAll(page, size, taskStatus != null ? taskStatus.name() : null);
-        
-        TaskPage taskPage = new TaskPage();
-        taskPage.setTasks(pageResult.getContent());
-        taskPage.setTotalPages(pageResult.getTotalPages());
-        taskPage.setTotalItems((int) pageResult.getTotalElements());
-
-        return taskPage;
+    public TaskPage taskPage(@Argument Integer page, @Argument Integer size, @Argument TaskStatusEnum taskStatus,
+                             @Argument String after, @Argument Integer limit, @Argument TotalsMode totals,
+                             @Argument List<TaskStatusEnum> taskStatuses, @Argument String dueFrom,
+                             @Argument String dueTo, @Argument String titlePrefix, @Argument TaskSort sort,
+                             DataFetchingFieldSelectionSet selection) {
+        Set<TaskStatusEnum> statuses = EnumSet.noneOf(TaskStatusEnum.class);
+        if (taskStatus != null) {
+            statuses.add(taskStatus);
+        }
+        if (taskStatuses != null) {
+            statuses.addAll(taskStatuses);
+        }
+        List<String> statusNames = statuses.stream().map(TaskStatusEnum::name).toList();
+        TaskFilter filter = TaskFilter.fromParams(statusNames, dueFrom, dueTo, titlePrefix,
+                sort != null ? sort.getValue() : null);
+
+        int pageSize = size != null ? size : 10;
+        Set<String> fields = selection.getFields("tasks/*").stream()
+                .map(SelectedField::getName)
+                .collect(Collectors.toSet());
+
+        if (after != null || limit != null) {
+            Slice<Task> sliceResult = taskService.findAfter(filter, after, limit != null ? limit : pageSize, fields);
+            return TaskPages.ofCursor(sliceResult);
+        }
+
+        TotalsMode totalsMode = TotalsMode.NONE;
+        if (selection.contains("totalItems") || selection.contains("totalPages")) {
+            totalsMode = totals != null ? totals : TotalsMode.EXACT;
+        }
+        Slice<Task> pageResult = taskService.findAll(filter, page != null ? page : 1, pageSize, totalsMode, fields);
+        return TaskPages.of(pageResult);
+    }
+
+    /**
+     * Query to search task titles and descriptions, best match first.
+     */
+    @QueryMapping(name = "searchTasks")
+    public TaskPage searchTasks(@Argument String q, @Argument Integer page, @Argument Integer size) {
+        return TaskPages.of(taskSearchService.search(q, page != null ? page : 1, size != null ? size : 10));
     }
 
     /**
      * Query to fetch a single task by ID.
+     * Goes through the task DataLoader so all task fields of one request share a single query.
      */
     @QueryMapping(name = "task")  // FIX: Method name matches schema
-    public Task task(@Argument String id) {
-        return taskService.get(id);
+    public CompletableFuture<Task> task(@Argument String id, DataLoader<Long, Task> taskLoader) {
+        return taskLoader.load(Long.valueOf(id)).thenApply(task -> {
+            if (task == null) {
+                throw new ResourceNotFoundException("Task with ID " + id + " not found");
+            }
+            return task;
+        });
     }
 
     /**
@@ -58,21 +123,23 @@ public class TaskGraphQLController {
     }
 
     /**
-     * Mutation to update an existing task.
+     * Mutation to update an existing task, optionally only at the expected version.
      */
     @MutationMapping(name = "update")
-    public Task update(@Argument String id, @Argument("taskUpdateRequestInput") TaskUpdateRequest request) {
-        return taskService.update(id, request);
+    public Task update(@Argument String id, @Argument("taskUpdateRequestInput") TaskUpdateRequest request,
+                       @Argument Long expectedVersion) {
+        return taskService.update(id, request, expectedVersion);
     }
 
     /**
-     * Mutation to delete a task.
+     * Mutation to delete a task, optionally only at the expected version.
+     * A version conflict is reported as an error, a missing task as success false.
      */
     @MutationMapping(name = "delete")
-    public Delete200Response delete(@Argument String id) {
+    public Delete200Response delete(@Argument String id, @Argument Long expectedVersion) {
         Delete200Response delete200Response = new Delete200Response();
         try {
-            taskService.delete(id);
+            taskService.delete(id, expectedVersion);
             delete200Response.setSuccess(true);
             return delete200Response;
         } catch (ResourceNotFoundException e) {
@@ -82,10 +149,44 @@ public class TaskGraphQLController {
     }
 
     /**
-     * Query to count tasks by status.
+     * Mutation to create many tasks in one call.
+     */
+    @MutationMapping(name = "createBatch")
+    public BatchResult createBatch(@Argument("taskCreateRequestInputs") List<TaskCreateRequest> requests) {
+        return taskBatchService.createAll(requests);
+    }
+
+    /**
+     * Mutation to partially update many tasks in one call.
+     */
+    @MutationMapping(name = "updateBatch")
+    public BatchResult updateBatch(@Argument("items") List<TaskBatchUpdateItem> items) {
+        return taskBatchService.updateAll(items);
+    }
+
+    /**
+     * Mutation to delete many tasks in one call.
+     */
+    @MutationMapping(name = "deleteBatch")
+    public BatchResult deleteBatch(@Argument List<String> ids) {
+        return taskBatchService.deleteAll(ids);
+    }
+
+    /**
+     * Query to count tasks by status, or all tasks when no status is given.
      */
     @QueryMapping
     public int countTasks(@Argument String status) {
         return taskService.countTasks(status);
     }
+
+    /**
+     * Query to count the tasks of every status in one call.
+     */
+    @QueryMapping
+    public List<TaskStatusTotal> taskCounts() {
+        return taskService.countAllTasks().entrySet().stream()
+                .map(entry -> new TaskStatusTotal(entry.getKey(), entry.getValue()))
+                .toList();
+    }
 }
@@ -0,0 +1,31 @@
+package com.camelcase.taskapi.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.camelcase.taskapi.dto.ImportResult;
+import com.camelcase.taskapi.service.TaskFileFormat;
+import com.camelcase.taskapi.service.TaskImportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// Bulk import. The body is read straight from the request stream, never bound or buffered as a whole.
+@RestController
+public class TaskImportController {
+
+    private final TaskImportService taskImportService;
+
+    public TaskImportController(TaskImportService taskImportService) {
+        this.taskImportService = taskImportService;
+    }
+
+    // Create one task per NDJSON line or CSV record; invalid lines are reported, not fatal
+    @PostMapping(value = "/tasks/import", consumes = { "application/x-ndjson", "text/csv" }, produces = "application/json")
+    public ResponseEntity<ImportResult> importTasks(HttpServletRequest request) throws IOException {
+        TaskFileFormat format = TaskFileFormat.fromContentType(request.getContentType());
+        return ResponseEntity.ok(taskImportService.importTasks(format, request.getInputStream()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.camelcase.taskapi.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.camelcase.taskapi.model.TaskPage;
+import com.camelcase.taskapi.service.TaskSearchService;
+
+// Full-text search, ranked by relevance instead of id
+@RestController
+public class TaskSearchController {
+
+    private final TaskSearchService taskSearchService;
+
+    public TaskSearchController(TaskSearchService taskSearchService) {
+        this.taskSearchService = taskSearchService;
+    }
+
+    // Tasks whose title or description contains any word of q, best match first
+    @GetMapping(value = "/tasks/search", produces = "application/json")
+    public ResponseEntity<TaskPage> search(@RequestParam String q,
+                                           @RequestParam(defaultValue = "1") Integer page,
+                                           @RequestParam(defaultValue = "10") Integer size) {
+        return ResponseEntity.ok(TaskPages.of(taskSearchService.search(q, page, size)));
+    }
+}
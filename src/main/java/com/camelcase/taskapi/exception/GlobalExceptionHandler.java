@@ -16,15 +16,33 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.camelcase.taskapi.model.ErrorResponse;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.validation.ConstraintViolationException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
-    
+
+    private final Tracer tracer;
+
+    public GlobalExceptionHandler(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    // Every error body carries the trace id of the request, when it is traced
+    private ErrorResponse newErrorResponse() {
+        ErrorResponse errorResponse = new ErrorResponse();
+        Span span = tracer.currentSpan();
+        if (span != null && !span.context().traceId().isEmpty()) {
+            errorResponse.setTraceId(span.context().traceId());
+        }
+        return errorResponse;
+    }
+
     // Handle 403 Forbidden (Access Denied)
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
-        ErrorResponse errorResponse = new ErrorResponse();
+        ErrorResponse errorResponse = newErrorResponse();
         errorResponse.setError("Access denied");
         errorResponse.setDetails(List.of("You do not have permission to access this resource."));
         return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
@@ -33,7 +51,7 @@ public class GlobalExceptionHandler {
     // Handle 401 Unauthorized (Invalid Login)
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ErrorResponse> handleAuthenticationException(AuthenticationException ex) {
-        ErrorResponse errorResponse = new ErrorResponse();
+        ErrorResponse errorResponse = newErrorResponse();
         errorResponse.setError("Unauthorized");
         errorResponse.setDetails(List.of("Invalid username or password."));
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
@@ -41,7 +59,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentialsException(BadCredentialsException ex) {
-        ErrorResponse errorResponse = new ErrorResponse();
+        ErrorResponse errorResponse = newErrorResponse();
         errorResponse.setError("Unauthorized");
         errorResponse.setDetails(List.of("Incorrect username or password."));
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
@@ -49,7 +67,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ExpiredJwtException.class)
     public ResponseEntity<ErrorResponse> handleExpiredJwtException(ExpiredJwtException ex) {
-        ErrorResponse errorResponse = new ErrorResponse();
+        ErrorResponse errorResponse = newErrorResponse();
         errorResponse.setError("Unauthorized");
         errorResponse.setDetails(List.of("Your session has expired. Please log in again."));
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
@@ -58,12 +76,30 @@ public class GlobalExceptionHandler {
     // Handle Not Found Errors (404)
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFoundException(ResourceNotFoundException ex) {
-        ErrorResponse errorResponse = new ErrorResponse();
+        ErrorResponse errorResponse = newErrorResponse();
         errorResponse.setError("Task not found");
         errorResponse.setDetails(List.of(ex.getMessage()));
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    // Handle version conflicts (412) of conditional writes
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        ErrorResponse errorResponse = newErrorResponse();
+        errorResponse.setError("Precondition failed");
+        errorResponse.setDetails(List.of(ex.getMessage()));
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // Handle Bad Requests (400) raised by the service layer
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(BadRequestException ex) {
+        ErrorResponse errorResponse = newErrorResponse();
+        errorResponse.setError("Bad request");
+        errorResponse.setDetails(List.of(ex.getMessage()));
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     // Handle Validation Errors (400) from @Valid
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -71,7 +107,7 @@ public class GlobalExceptionHandler {
                 .map(FieldError::getDefaultMessage)
                 .collect(Collectors.toList());
 
-        ErrorResponse errorResponse = new ErrorResponse();
+        ErrorResponse errorResponse = newErrorResponse();
         errorResponse.setError("Validation error");
         errorResponse.setDetails(errors);
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
@@ -84,7 +120,7 @@ public class GlobalExceptionHandler {
                 .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
                 .collect(Collectors.toList());
 
-        ErrorResponse errorResponse = new ErrorResponse();
+        ErrorResponse errorResponse = newErrorResponse();
         errorResponse.setError("Validation error");
         errorResponse.setDetails(errors);
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
@@ -93,7 +129,7 @@ public class GlobalExceptionHandler {
     // Handle General Errors (500)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
-        ErrorResponse errorResponse = new ErrorResponse();
+        ErrorResponse errorResponse = newErrorResponse();
         errorResponse.setError("Internal server error");
         errorResponse.setDetails(List.of(ex.getMessage()));
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
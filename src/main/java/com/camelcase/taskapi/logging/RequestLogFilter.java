@@ -0,0 +1,143 @@
+package com.camelcase.taskapi.logging;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * One summary line per request: method, path, status and duration, never bodies or query strings.
+ *
+ * Requests are sampled: {@code tasks.request-log.sample-rate} of all requests are logged at INFO,
+ * overridden per path prefix by {@code tasks.request-log.sample-rates} (e.g. {@code /api/auth/login=1.0}).
+ * Server errors are always logged at WARN. Setting this logger to DEBUG, also at runtime through
+ * /actuator/loggers, logs every request with its query string.
+ *
+ * Runs right inside Spring Boot's server observation filter (HIGHEST_PRECEDENCE + 1), so the duration
+ * includes authentication and the line carries the request's trace id. Requests that go async (GraphQL)
+ * are logged when the async processing completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLogFilter.class);
+
+    private static final String SUMMARY = "method={} path={} status={} durationMs={}";
+
+    private final double defaultRate;
+    // Longest prefix first, so the most specific rate wins
+    private final List<PathRate> rates = new ArrayList<>();
+
+    public RequestLogFilter(@Value("${tasks.request-log.sample-rate:0.01}") double defaultRate,
+                            @Value("${tasks.request-log.sample-rates:}") String rates) {
+        this.defaultRate = defaultRate;
+        for (String entry : rates.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected path=rate in tasks.request-log.sample-rates but got " + entry);
+            }
+            this.rates.add(new PathRate(parts[0].trim(), Double.parseDouble(parts[1].trim())));
+        }
+        this.rates.sort(Comparator.comparingInt((PathRate rate) -> rate.prefix().length()).reversed());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, started));
+            } else {
+                log(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), started);
+            }
+        }
+    }
+
+    // Decides before building any message, so a request that is not logged costs one random number
+    void log(HttpServletRequest request, int status, long started) {
+        if (status >= 500) {
+            logger.warn(SUMMARY, request.getMethod(), request.getRequestURI(), status, elapsedMillis(started));
+        } else if (logger.isDebugEnabled()) {
+            logger.debug(SUMMARY + " query={}", request.getMethod(), request.getRequestURI(), status, elapsedMillis(started),
+                    request.getQueryString());
+        } else if (logger.isInfoEnabled() && sampled(request.getRequestURI())) {
+            logger.info(SUMMARY, request.getMethod(), request.getRequestURI(), status, elapsedMillis(started));
+        }
+    }
+
+    double sampleRate(String path) {
+        for (PathRate rate : rates) {
+            if (path.startsWith(rate.prefix())) {
+                return rate.rate();
+            }
+        }
+        return defaultRate;
+    }
+
+    private boolean sampled(String path) {
+        double rate = sampleRate(path);
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+
+    private record PathRate(String prefix, double rate) {
+    }
+
+    private class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long started;
+
+        CompletionListener(HttpServletRequest request, HttpServletResponse response, long started) {
+            this.request = request;
+            this.response = response;
+            this.started = started;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            log(request, response.getStatus(), started);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -1,12 +1,37 @@
 package com.camelcase.taskapi.mapper;
 
 import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.model.TaskUpdateRequest;
 import com.camelcase.taskapi.model.entity.TaskEntity;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 
 
 @Mapper(componentModel = "spring")
 public interface TaskMapper {
     TaskEntity toEntity(Task task);
     Task toDto(TaskEntity taskEntity);
-}
\ No newline at end of file
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    TaskEntity toEntity(TaskCreateRequest request);
+
+    // Copies only the non-null fields of the request onto the entity
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    void updateEntity(TaskUpdateRequest request, @MappingTarget TaskEntity taskEntity);
+
+    // Same as updateEntity, for building a response without touching the managed entity
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    void updateDto(TaskUpdateRequest request, @MappingTarget Task task);
+}
@@ -1,18 +1,28 @@
 package com.camelcase.taskapi.model.entity;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "tasks")
+// (task_status, id) serves status filters with id order (pages, keyset cursors, counts);
+// (task_status, due_date) serves status filters combined with due date ranges or ordering;
+// (title) serves title prefix searches
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_status_id", columnList = "taskStatus, id"),
+        @Index(name = "idx_tasks_status_due_date", columnList = "taskStatus, dueDate"),
+        @Index(name = "idx_tasks_title", columnList = "title")
+})
 public class TaskEntity {
+    // Pooled sequence (not IDENTITY) so Hibernate can assign ids up front and batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -22,4 +32,28 @@ public class TaskEntity {
     private TaskStatusEnum taskStatus;
 
     private LocalDate dueDate;
+
+    // Bumped on every write, also by the bulk JPQL updates; the task ETags are built from it.
+    // The column defaults cover rows inserted with plain SQL (data.sql, TaskDataSeeder).
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
+    @Column(columnDefinition = "timestamp(6) with time zone default current_timestamp not null")
+    private OffsetDateTime updatedAt;
+
+    // New tasks: the version is set by Hibernate and updatedAt by touch() on insert
+    public TaskEntity(Long id, String title, String description, TaskStatusEnum taskStatus, LocalDate dueDate) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.taskStatus = taskStatus;
+        this.dueDate = dueDate;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
 }
@@ -0,0 +1,26 @@
+package com.camelcase.taskapi.observability;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+
+/**
+ * Turns on {@code @Observed}, used on the controllers and services as {@code tasks.*} observations: each
+ * call becomes a span (named class#method) and a timer of the same name tagged with class and method.
+ *
+ * Everything else is instrumented by Spring Boot and its libraries: http.server.requests,
+ * spring.data.repository.invocations, graphql.request and graphql.datafetcher, the security filter
+ * chain, jdbc.* spans per connection and statement (datasource-micrometer), hikaricp.connections.* and
+ * cache.*. Histograms are enabled per meter in application.yml; metrics are scraped from
+ * /actuator/prometheus, spans go to the exporters of {@link TracingConfig}.
+ */
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.camelcase.taskapi.observability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+
+/**
+ * Where finished spans go; with neither exporter configured they are only used for the trace ids in
+ * logs and error responses.
+ *
+ * Spring Boot's own OTLP exporter is excluded in application.yml because it sends to localhost:4318
+ * whenever the exporter library is present, failing on every batch when no collector runs.
+ */
+@Configuration
+public class TracingConfig {
+
+    // OTLP over HTTP to a collector, e.g. http://localhost:4318/v1/traces
+    @Bean
+    @ConditionalOnProperty(name = "management.otlp.tracing.endpoint")
+    public OtlpHttpSpanExporter otlpHttpSpanExporter(@Value("${management.otlp.tracing.endpoint}") String endpoint) {
+        return OtlpHttpSpanExporter.builder().setEndpoint(endpoint).build();
+    }
+
+    // Every finished span as one INFO line of the io.opentelemetry.exporter.logging logger
+    @Bean
+    @ConditionalOnProperty(name = "tasks.tracing.log-spans", havingValue = "true")
+    public LoggingSpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
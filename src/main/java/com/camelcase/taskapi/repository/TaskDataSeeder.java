@@ -0,0 +1,91 @@
+package com.camelcase.taskapi.repository;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the embedded database with {@code tasks.seed.count} generated tasks on top of data.sql, for load
+ * tests. Off unless the count is positive.
+ *
+ * Every column is a pure function of the row id, so the same count always produces exactly the same
+ * dataset: results of two runs are comparable, and a load driver can derive ids and filter values
+ * without reading anything back. Rows are inserted set-based in chunks (H2's SYSTEM_RANGE), one
+ * statement per chunk.
+ *
+ * Runs as an ApplicationRunner, i.e. before the ApplicationReadyEvent listeners that build the task
+ * counters and the search index from the table.
+ */
+@Component
+@ConditionalOnExpression("${tasks.seed.count:0} > 0")
+public class TaskDataSeeder implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDataSeeder.class);
+
+    // Seeded ids start here, clear of the hand-written rows in data.sql
+    public static final long FIRST_ID = 1001;
+
+    private static final int CHUNK_SIZE = 100_000;
+
+    // Title words, so title prefix filters and searches have selective and common terms to hit
+    static final List<String> WORDS = List.of(
+            "Review", "Deploy", "Fix", "Write", "Plan", "Test", "Refactor", "Document",
+            "Design", "Migrate", "Release", "Monitor", "Benchmark", "Upgrade", "Audit", "Triage");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long count;
+
+    public TaskDataSeeder(JdbcTemplate jdbcTemplate, @Value("${tasks.seed.count}") long count) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.count = count;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = FIRST_ID + count - 1;
+        Long existing = jdbcTemplate.queryForObject("select count(*) from tasks where id >= ?", Long.class, FIRST_ID);
+        if (existing != null && existing > 0) {
+            logger.info("Tasks from id {} already exist, not seeding", FIRST_ID);
+            return;
+        }
+
+        long started = System.nanoTime();
+        String insert = insertStatement();
+        for (long from = FIRST_ID; from <= lastId; from += CHUNK_SIZE) {
+            jdbcTemplate.update(insert, from, Math.min(from + CHUNK_SIZE - 1, lastId));
+        }
+        // Past the seeded ids plus one id block of the pooled sequence generator
+        jdbcTemplate.execute("alter sequence tasks_seq restart with " + (lastId + 100));
+
+        logger.info("Seeded {} tasks (ids {}-{}) in {} ms", count, FIRST_ID, lastId, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /*
+     * For id x:
+     * - title: WORDS[x % 16] + " task " + x
+     * - task_status: PENDING, IN_PROGRESS, COMPLETED for x % 3 = 0, 1, 2
+     * - due_date: 2024-01-01 plus (x * 7919) % 730 days, spread over two years regardless of id order
+     * - description: every second task, "Generated task x"
+     */
+    private static String insertStatement() {
+        StringBuilder title = new StringBuilder("case mod(x, ").append(WORDS.size()).append(")");
+        for (int i = 0; i < WORDS.size(); i++) {
+            title.append(" when ").append(i).append(" then '").append(WORDS.get(i)).append("'");
+        }
+        title.append(" end || ' task ' || x");
+
+        return "insert into tasks (id, title, description, task_status, due_date) "
+                + "select x, " + title + ", "
+                + "case when mod(x, 2) = 0 then 'Generated task ' || x end, "
+                + "case mod(x, 3) when 0 then 'PENDING' when 1 then 'IN_PROGRESS' else 'COMPLETED' end, "
+                + "dateadd('DAY', mod(x * 7919, 730), date '2024-01-01') "
+                + "from system_range(?, ?)";
+    }
+}
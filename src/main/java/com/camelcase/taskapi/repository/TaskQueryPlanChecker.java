@@ -0,0 +1,78 @@
+package com.camelcase.taskapi.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs EXPLAIN on the SQL behind the filtered {@link TaskRepository} queries at startup and warns
+ * when the database would answer one of them with a full table scan, e.g. because an index from
+ * {@code TaskEntity} is missing in a hand-managed schema.
+ *
+ * Recognises H2 ({@code tableScan}) and PostgreSQL ({@code Seq Scan}) plans.
+ * Disable with {@code tasks.query-plan-check.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.query-plan-check.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskQueryPlanChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskQueryPlanChecker.class);
+
+    // Repository method -> equivalent SQL with literal parameters, since the generated SQL only has bind markers.
+    // TaskQueryPlanCheckerTest fails when a method is gone or its generated WHERE or ORDER BY no longer matches.
+    static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("findByTaskStatus",
+                "select id, title, description, task_status, due_date from tasks where task_status = 'PENDING' "
+                        + "offset 0 rows fetch first 10 rows only");
+        QUERIES.put("countByTaskStatus",
+                "select count(id) from tasks where task_status = 'PENDING'");
+        QUERIES.put("findByTaskStatusAndIdGreaterThan",
+                "select id, title, description, task_status, due_date from tasks where task_status = 'PENDING' and id > 0 "
+                        + "order by task_status, id fetch first 11 rows only");
+        QUERIES.put("findProjected(statuses, due range)",
+                "select id, title, due_date from tasks where task_status in ('PENDING', 'IN_PROGRESS') "
+                        + "and due_date >= date '2024-01-01' and due_date <= date '2024-12-31' "
+                        + "order by due_date, id fetch first 11 rows only");
+        QUERIES.put("findProjected(title prefix)",
+                "select id, title from tasks where title like 'Rep%' escape '\\' order by id fetch first 11 rows only");
+        QUERIES.put("findTaskStatusAndVersionById",
+                "select task_status, version from tasks where id = 1");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskQueryPlanChecker(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        QUERIES.forEach((method, sql) -> {
+            try {
+                String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+                if (isFullScan(plan)) {
+                    logger.warn("TaskRepository.{} runs as a full table scan, check the tasks indexes. Plan:\n{}", method, plan);
+                } else {
+                    logger.debug("TaskRepository.{} plan:\n{}", method, plan);
+                }
+            } catch (DataAccessException e) {
+                logger.warn("Could not EXPLAIN TaskRepository.{}: {}", method, e.getMostSpecificCause().getMessage());
+            }
+        });
+    }
+
+    static boolean isFullScan(String plan) {
+        return plan.contains(".tableScan") || plan.contains("Seq Scan");
+    }
+}
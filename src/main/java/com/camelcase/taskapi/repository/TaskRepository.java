@@ -3,11 +3,76 @@ package com.camelcase.taskapi.repository;
 import com.camelcase.taskapi.model.entity.TaskEntity;
 import com.camelcase.taskapi.model.entity.TaskStatusEnum;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
 
-public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, JpaSpecificationExecutor<TaskEntity>, TaskRepositoryCustom {
     Page<TaskEntity> findByTaskStatus(TaskStatusEnum statusEnum, Pageable pageable);
     long countByTaskStatus(TaskStatusEnum statusEnum);
-}
\ No newline at end of file
+
+    // Slice variants fetch one extra row to compute hasNext and skip the count query
+    Slice<TaskEntity> findAllBy(Pageable pageable);
+    Slice<TaskEntity> findSliceByTaskStatus(TaskStatusEnum statusEnum, Pageable pageable);
+
+    // Keyset pagination: seek past the last seen id instead of OFFSET, and no count query
+    Slice<TaskEntity> findByIdGreaterThan(Long id, Pageable pageable);
+    Slice<TaskEntity> findByTaskStatusAndIdGreaterThan(TaskStatusEnum statusEnum, Long id, Pageable pageable);
+
+    @Query("select t.taskStatus as taskStatus, count(t) as total from TaskEntity t group by t.taskStatus")
+    List<TaskStatusCount> countGroupByTaskStatus();
+
+    // Forward-only cursor over the whole table in id order; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select t from TaskEntity t order by t.id")
+    Stream<TaskEntity> streamAllBy();
+
+    @Query("select t.taskStatus as taskStatus, t.version as version from TaskEntity t where t.id = :id")
+    Optional<TaskStatusVersion> findTaskStatusAndVersionById(@Param("id") Long id);
+
+    // Partial update in a single statement: a null parameter keeps the current column value.
+    // Bulk updates bypass Hibernate's versioning, so the version and timestamp are written here, and
+    // only while the row still has the given version. Returns the affected row count, 0 when the task
+    // does not exist or was changed since that version was read.
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update TaskEntity t set t.title = coalesce(:title, t.title), "
+            + "t.description = coalesce(:description, t.description), "
+            + "t.taskStatus = coalesce(:taskStatus, t.taskStatus), "
+            + "t.dueDate = coalesce(:dueDate, t.dueDate), "
+            + "t.version = t.version + 1, "
+            + "t.updatedAt = :updatedAt "
+            + "where t.id = :id and t.version = :version")
+    int updatePartially(@Param("id") Long id,
+                        @Param("version") Long version,
+                        @Param("updatedAt") OffsetDateTime updatedAt,
+                        @Param("title") String title,
+                        @Param("description") String description,
+                        @Param("taskStatus") TaskStatusEnum taskStatus,
+                        @Param("dueDate") LocalDate dueDate);
+
+    // Deletes without loading the entity first, only while the row still has the given version;
+    // returns the affected row count
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("delete from TaskEntity t where t.id = :id and t.version = :version")
+    int deleteTaskByIdAndVersion(@Param("id") Long id, @Param("version") Long version);
+}
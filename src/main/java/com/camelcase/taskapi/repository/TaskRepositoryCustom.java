@@ -0,0 +1,22 @@
+package com.camelcase.taskapi.repository;
+
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.camelcase.taskapi.model.entity.TaskEntity;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Loads one slice of tasks selecting only the given attributes (plus {@code id} and {@code version},
+     * which are always loaded so every task keeps its ETag).
+     * The returned entities are detached and only have the selected attributes set; unknown names are ignored.
+     *
+     * @param attributes attributes to load, null for all of them
+     * @param spec       optional filter, see {@link TaskSpecifications}
+     */
+    Slice<TaskEntity> findProjected(Set<String> attributes, Specification<TaskEntity> spec, Pageable pageable);
+}
@@ -0,0 +1,90 @@
+package com.camelcase.taskapi.repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+// Criteria tuple queries, so only the requested columns are read from the table
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    // Selectable attributes in column order; id and version are always selected
+    private static final List<String> ATTRIBUTES = List.of("id", "title", "description", "taskStatus", "dueDate", "version", "updatedAt");
+    private static final Set<String> ALWAYS_SELECTED = Set.of("id", "version");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<TaskEntity> findProjected(Set<String> attributes, Specification<TaskEntity> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TaskEntity> root = query.from(TaskEntity.class);
+
+        List<String> selected = ATTRIBUTES.stream()
+                .filter(attribute -> attributes == null || ALWAYS_SELECTED.contains(attribute) || attributes.contains(attribute))
+                .toList();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String attribute : selected) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        query.multiselect(selections);
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        // One extra row tells whether another slice follows, as with the derived Slice queries
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        if (hasNext) {
+            rows = rows.subList(0, pageable.getPageSize());
+        }
+
+        List<TaskEntity> content = rows.stream().map(row -> toEntity(row, selected)).toList();
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private static TaskEntity toEntity(Tuple row, List<String> selected) {
+        TaskEntity taskEntity = new TaskEntity();
+        for (String attribute : selected) {
+            switch (attribute) {
+                case "id" -> taskEntity.setId(row.get(attribute, Long.class));
+                case "title" -> taskEntity.setTitle(row.get(attribute, String.class));
+                case "description" -> taskEntity.setDescription(row.get(attribute, String.class));
+                case "taskStatus" -> taskEntity.setTaskStatus(row.get(attribute, TaskStatusEnum.class));
+                case "dueDate" -> taskEntity.setDueDate(row.get(attribute, LocalDate.class));
+                case "version" -> taskEntity.setVersion(row.get(attribute, Long.class));
+                case "updatedAt" -> taskEntity.setUpdatedAt(row.get(attribute, OffsetDateTime.class));
+                default -> throw new IllegalArgumentException("Unknown attribute " + attribute);
+            }
+        }
+        return taskEntity;
+    }
+}
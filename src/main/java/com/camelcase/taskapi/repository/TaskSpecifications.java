@@ -0,0 +1,62 @@
+package com.camelcase.taskapi.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.service.TaskFilter;
+
+/**
+ * Building blocks for filtered task queries. Each one maps onto a column of the tasks indexes;
+ * which combinations are allowed is decided by {@link TaskFilter}.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    // Every condition of the filter, ANDed; matches all tasks for an empty filter
+    public static Specification<TaskEntity> matching(TaskFilter filter) {
+        Specification<TaskEntity> spec = Specification.where(null);
+        if (!filter.getStatuses().isEmpty()) {
+            spec = spec.and(hasStatusIn(filter.getStatuses()));
+        }
+        if (filter.getDueFrom() != null) {
+            spec = spec.and(dueOnOrAfter(filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            spec = spec.and(dueOnOrBefore(filter.getDueTo()));
+        }
+        if (filter.getTitlePrefix() != null) {
+            spec = spec.and(titleStartsWith(filter.getTitlePrefix()));
+        }
+        return spec;
+    }
+
+    public static Specification<TaskEntity> hasStatusIn(Collection<TaskStatusEnum> statuses) {
+        return (root, query, cb) -> statuses.size() == 1
+                ? cb.equal(root.get("taskStatus"), statuses.iterator().next())
+                : root.get("taskStatus").in(statuses);
+    }
+
+    public static Specification<TaskEntity> dueOnOrAfter(LocalDate dueFrom) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), dueFrom);
+    }
+
+    public static Specification<TaskEntity> dueOnOrBefore(LocalDate dueTo) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), dueTo);
+    }
+
+    // LIKE 'prefix%' with the prefix's own wildcards escaped, so it stays an index range scan
+    public static Specification<TaskEntity> titleStartsWith(String prefix) {
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("title"), pattern, '\\');
+    }
+
+    public static Specification<TaskEntity> idGreaterThan(Long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+}
@@ -0,0 +1,9 @@
+package com.camelcase.taskapi.repository;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+
+// Projection for per-status counts
+public interface TaskStatusCount {
+    TaskStatusEnum getTaskStatus();
+    long getTotal();
+}
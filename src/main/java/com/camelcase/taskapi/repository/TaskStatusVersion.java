@@ -0,0 +1,9 @@
+package com.camelcase.taskapi.repository;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+
+// Projection for the status and version of one task, all a delete needs
+public interface TaskStatusVersion {
+    TaskStatusEnum getTaskStatus();
+    long getVersion();
+}
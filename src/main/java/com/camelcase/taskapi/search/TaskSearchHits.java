@@ -0,0 +1,12 @@
+package com.camelcase.taskapi.search;
+
+import java.util.List;
+
+/**
+ * One page of search hits.
+ *
+ * @param ids       matching task ids, best match first
+ * @param totalHits number of matching tasks in the whole index
+ */
+public record TaskSearchHits(List<Long> ids, long totalHits) {
+}
@@ -0,0 +1,223 @@
+package com.camelcase.taskapi.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.observation.annotation.Observed;
+
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.repository.TaskRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+
+/**
+ * In-memory Lucene index over task titles and descriptions.
+ *
+ * Built from the table when the application is ready and kept in sync by the writers after their
+ * change has committed (like {@link com.camelcase.taskapi.cache.TaskCache}). Only the id is stored;
+ * callers load the tasks themselves. Each node keeps its own index, so a node only sees writes made
+ * through it until it is restarted.
+ *
+ * Hits are ranked with BM25, a title match weighing twice as much as a description match.
+ */
+@Component
+@Observed(name = "tasks.search.index")
+public class TaskSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public TaskSearchIndex(TaskRepository taskRepository, EntityManager entityManager,
+                           PlatformTransactionManager transactionManager) throws IOException {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // Streams every task into the index; the table is read once, entities are detached as they go
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Long indexed = transactionTemplate.execute(status -> {
+            long count = 0;
+            try (Stream<TaskEntity> tasks = taskRepository.streamAllBy()) {
+                Iterator<TaskEntity> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    TaskEntity taskEntity = iterator.next();
+                    write(taskEntity.getId(), taskEntity.getTitle(), taskEntity.getDescription());
+                    entityManager.detach(taskEntity);
+                    count++;
+                }
+            }
+            return count;
+        });
+        refresh();
+        logger.info("Indexed {} tasks for search", indexed);
+    }
+
+    public void index(Long id, String title, String description) {
+        write(id, title, description);
+        refresh();
+    }
+
+    public void indexAll(Collection<TaskEntity> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        tasks.forEach(task -> write(task.getId(), task.getTitle(), task.getDescription()));
+        refresh();
+    }
+
+    public void remove(Long id) {
+        removeAll(List.of(id));
+    }
+
+    public void removeAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            writer.deleteDocuments(ids.stream().map(TaskSearchIndex::idTerm).toArray(Term[]::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        refresh();
+    }
+
+    /**
+     * Ranked ids of the tasks matching any word of the query, best first.
+     *
+     * @param offset number of hits to skip
+     * @param limit  maximum number of ids to return
+     * @return the ids, empty when the query has no searchable words
+     */
+    public TaskSearchHits search(String text, int offset, int limit) {
+        Query query = parse(text);
+        if (query == null) {
+            return new TaskSearchHits(List.of(), 0);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, offset + limit);
+                List<Long> ids = new ArrayList<>(limit);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    ids.add(searcher.storedFields().document(scoreDocs[i].doc).getField(ID).numericValue().longValue());
+                }
+                // TopDocs only counts hits exactly up to a threshold, count() is always exact
+                return new TaskSearchHits(ids, searcher.count(query));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // One SHOULD clause per analyzed word and field, so tasks matching more words rank higher
+    private Query parse(String text) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean empty = true;
+        try (TokenStream tokens = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                String word = term.toString();
+                query.add(new BoostQuery(new TermQuery(new Term(TITLE, word)), TITLE_BOOST), BooleanClause.Occur.SHOULD);
+                query.add(new TermQuery(new Term(DESCRIPTION, word)), BooleanClause.Occur.SHOULD);
+                empty = false;
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return empty ? null : query.build();
+    }
+
+    private void write(Long id, String title, String description) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(id), Field.Store.NO));
+        document.add(new StoredField(ID, id));
+        if (title != null) {
+            document.add(new TextField(TITLE, title, Field.Store.NO));
+        }
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(idTerm(id), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Makes the latest writes visible to searches
+    private void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(ID, String.valueOf(id));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+}
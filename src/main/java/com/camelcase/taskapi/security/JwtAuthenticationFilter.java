@@ -1,11 +1,11 @@
 package com.camelcase.taskapi.security;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 
-import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -25,21 +25,14 @@ public class JwtAuthenticationFilter implements jakarta.servlet.Filter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
-    private static final String[] PUBLIC_ENDPOINTS = {
-        "/api/auth/login",
-        ".html",
-        "favicon.ico",
-        "/v3/api-docs",
-        "/public",
-        "/graphiql"
-    };
-
-    private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
-
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
-        this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+    private static final String AUTHENTICATION_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".authentication";
+
+    private final JwtAuthenticator jwtAuthenticator;
+    private final ObservationRegistry observationRegistry;
+
+    public JwtAuthenticationFilter(JwtAuthenticator jwtAuthenticator, ObservationRegistry observationRegistry) {
+        this.jwtAuthenticator = jwtAuthenticator;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
@@ -50,54 +43,44 @@ public class JwtAuthenticationFilter implements jakarta.servlet.Filter {
 
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
 
-        final String authHeader = request.getHeader("Authorization");
-
-        if (isPublicEndpoint(request.getServletPath())) {
+        if (jwtAuthenticator.isPublicEndpoint(request.getServletPath())) {
             chain.doFilter(request, response);
             return;
         }
 
-        //  Handle missing token
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            handleError(response, HttpServletResponse.SC_UNAUTHORIZED, "No authentication token provided.");
+        // Async (GraphQL) and error dispatches of the same request come through here again; they reuse the
+        // authentication of the first pass instead of verifying the token once more
+        if (request.getAttribute(AUTHENTICATION_ATTRIBUTE) instanceof Authentication authenticated) {
+            SecurityContextHolder.getContext().setAuthentication(authenticated);
+            chain.doFilter(request, response);
             return;
         }
 
-        String token = authHeader.substring(7);
+        // A jwt.verification span and timer around the token check only, not the rest of the chain
+        Observation observation = Observation.start("jwt.verification", observationRegistry);
+        Authentication authentication = null;
+        TokenRejectedException rejection = null;
         try {
-            String username = jwtUtil.getUsername(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            SecurityContextHolder.getContext().setAuthentication(
-                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
-        } catch (ExpiredJwtException e) {
-            handleError(response, HttpServletResponse.SC_UNAUTHORIZED, "Your session has expired. Please log in again.");
-        } catch (io.jsonwebtoken.MalformedJwtException | io.jsonwebtoken.SignatureException e) {
-            handleError(response, HttpServletResponse.SC_UNAUTHORIZED, "Invalid authentication token.");
-        } catch (Exception e) {
-            handleError(response, HttpServletResponse.SC_FORBIDDEN, "Access denied.");
+            authentication = jwtAuthenticator.authenticate(request.getHeader("Authorization"));
+        } catch (TokenRejectedException e) {
+            rejection = e;
         }
+        observation.lowCardinalityKeyValue("outcome", rejection == null ? "accepted" : "rejected").stop();
 
-        chain.doFilter(request, response);
-    }
-
-    private boolean isPublicEndpoint(String requestPath) {
-        if ("/".equals(requestPath)) {  // Allow root path
-            return true;
-        }
-        for (String endpoint : PUBLIC_ENDPOINTS) {
-            if (requestPath.endsWith(endpoint)) {
-                return true;
-            }
+        if (rejection != null) {
+            handleError(response, rejection.getStatus().value(), rejection.getMessage());
+            return;
         }
-        return false;
+        request.setAttribute(AUTHENTICATION_ATTRIBUTE, authentication);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        chain.doFilter(request, response);
     }
 
     private void handleError(HttpServletResponse response, int status, String message) throws IOException {
         logger.warn("Authentication error: {}", message);
         response.setStatus(status);
         response.setContentType("application/json");
-        response.getWriter().write(String.format("{\"error\": \"Unauthorized\", \"message\": \"%s\"}", message));
+        response.getWriter().write(JwtAuthenticator.errorBody(message));
     }
     
 }
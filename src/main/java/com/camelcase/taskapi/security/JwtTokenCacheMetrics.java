@@ -0,0 +1,29 @@
+package com.camelcase.taskapi.security;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Publishes the verified token cache under the same cache.* meters as the Spring-managed caches
+ * (hit/miss counts, evictions, size), with cache=jwt-tokens. Spring's cache metrics only cover caches
+ * registered with a CacheManager, which this one is not.
+ */
+@Component
+public class JwtTokenCacheMetrics implements MeterBinder {
+
+    private final JwtTokenCache jwtTokenCache;
+
+    public JwtTokenCacheMetrics(JwtTokenCache jwtTokenCache) {
+        this.jwtTokenCache = jwtTokenCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // Same tag keys as Spring Boot puts on the CacheManager caches; Prometheus drops meters of one name with other keys
+        CaffeineCacheMetrics.monitor(registry, jwtTokenCache.nativeCache(), "jwt-tokens",
+                "cache.manager", "jwtTokenCache", "name", "jwt-tokens");
+    }
+}
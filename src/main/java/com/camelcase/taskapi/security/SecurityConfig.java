@@ -1,19 +1,22 @@
 package com.camelcase.taskapi.security;
 
+import java.util.Set;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import io.micrometer.observation.ObservationRegistry;
+
 
 @Configuration
 public class SecurityConfig {
@@ -29,21 +32,37 @@ public class SecurityConfig {
                     "/graphiql",  
                     "/graphql/schema" };
 
+    private static final String PROMETHEUS_URL = "/actuator/prometheus";
+
     @Value("${security.admin.username}")
     private String adminUsername;
 
     @Value("${security.admin.password}")
     private String adminPassword;
 
-    private final JwtUtil jwtUtil;
+    // Off by default: metrics need a token unless the endpoint is only reachable from the scraper's network
+    @Value("${security.prometheus.public:false}")
+    private boolean prometheusPublic;
+
+    private final JwtTokenCache jwtTokenCache;
 
-    public SecurityConfig(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public SecurityConfig(JwtTokenCache jwtTokenCache) {
+        this.jwtTokenCache = jwtTokenCache;
+    }
+
+    @Bean
+    public JwtAuthenticationFilter jwtAuthenticationFilter(UserStore userStore, ObservationRegistry observationRegistry) {
+        Set<String> publicPaths = prometheusPublic ? Set.of(PROMETHEUS_URL) : Set.of();
+        return new JwtAuthenticationFilter(new JwtAuthenticator(jwtTokenCache, userStore, publicPaths), observationRegistry);
     }
 
+    // The filter only belongs in the security chain; without this Boot also registers the bean as a servlet
+    // filter, and every request would verify its token (and record jwt.verification) twice
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(UserDetailsService userDetailsService) {
-        return new JwtAuthenticationFilter(jwtUtil, userDetailsService);
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
     }
 
 
@@ -51,9 +70,13 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
         http
             .csrf(csrf -> csrf.disable())  // Disable CSRF for API requests
-            .authorizeHttpRequests(auth -> auth
-                .requestMatchers(WHITE_LIST_URL).permitAll()  
-                .anyRequest().authenticated())  
+            .authorizeHttpRequests(auth -> {
+                auth.requestMatchers(WHITE_LIST_URL).permitAll();
+                if (prometheusPublic) {
+                    auth.requestMatchers(PROMETHEUS_URL).permitAll();
+                }
+                auth.anyRequest().authenticated();
+            })
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))  
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -61,18 +84,10 @@ public class SecurityConfig {
     }
 
 
+    // Credentials are hashed once here, at startup
     @Bean
-    public UserDetailsService userDetailsService() {
-        return username -> {
-            if (adminUsername.equals(username)) {
-                return User.withUsername(adminUsername)
-                        .password(passwordEncoder().encode(adminPassword))
-                        .roles("USER")
-                        .build();
-            } else {
-                throw new RuntimeException("User not found");
-            }
-        };
+    public UserStore userDetailsService(PasswordEncoder passwordEncoder) {
+        return new UserStore(adminUsername, adminPassword, passwordEncoder);
     }
 
     @Bean
@@ -0,0 +1,314 @@
+package com.camelcase.taskapi.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.observation.annotation.Observed;
+
+import com.camelcase.taskapi.cache.TaskCache;
+import com.camelcase.taskapi.dto.BatchItemResult;
+import com.camelcase.taskapi.dto.BatchItemResult.Status;
+import com.camelcase.taskapi.dto.BatchResult;
+import com.camelcase.taskapi.dto.TaskBatchUpdateItem;
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.mapper.TaskMapper;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.model.TaskUpdateRequest;
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.repository.TaskRepository;
+import com.camelcase.taskapi.search.TaskSearchIndex;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk create/update/delete.
+ *
+ * Items are validated one by one, then written in chunks of {@code tasks.batch.chunk-size}, one
+ * transaction per chunk. Inserts and updates are flushed through Hibernate JDBC batching
+ * ({@code hibernate.jdbc.batch_size}) and the persistence context is cleared after every chunk,
+ * so memory does not grow with the batch. A failing chunk is rolled back on its own and its
+ * items are reported as FAILED; earlier chunks stay committed.
+ */
+@Service
+@Observed(name = "tasks.service")
+public class TaskBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBatchService.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final TaskCounters taskCounters;
+    private final TaskCache taskCache;
+    private final TaskSearchIndex taskSearchIndex;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int maxItems;
+    private final int chunkSize;
+
+    public TaskBatchService(TaskRepository taskRepository, TaskMapper taskMapper, TaskCounters taskCounters,
+                            TaskCache taskCache, TaskSearchIndex taskSearchIndex, Validator validator, TransactionTemplate transactionTemplate, EntityManager entityManager,
+                            @Value("${tasks.batch.max-items:10000}") int maxItems,
+                            @Value("${tasks.batch.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.taskCounters = taskCounters;
+        this.taskCache = taskCache;
+        this.taskSearchIndex = taskSearchIndex;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.maxItems = maxItems;
+        this.chunkSize = chunkSize;
+    }
+
+    // Create all valid requests; invalid ones are reported and skipped
+    public BatchResult createAll(List<TaskCreateRequest> requests) {
+        checkSize(requests);
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> chunk = new ArrayList<>(chunkSize);
+
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> errors = validate(requests.get(i));
+            if (!errors.isEmpty()) {
+                results[i] = new BatchItemResult(i, null, Status.INVALID, errors);
+                continue;
+            }
+            chunk.add(i);
+            if (chunk.size() == chunkSize) {
+                createChunk(requests, chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            createChunk(requests, chunk, results);
+        }
+
+        return BatchResult.of(List.of(results));
+    }
+
+    // Apply the non-null fields of each item's changes to the task with that id
+    public BatchResult updateAll(List<TaskBatchUpdateItem> items) {
+        checkSize(items);
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        Map<Integer, Long> chunk = new LinkedHashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            TaskBatchUpdateItem item = items.get(i);
+            Long id = item != null ? parseId(item.getId()) : null;
+            List<String> errors = new ArrayList<>();
+            if (id == null) {
+                errors.add("A valid task id is required");
+            }
+            if (item == null || item.getChanges() == null) {
+                errors.add("Changes must not be null");
+            } else {
+                errors.addAll(validate(item.getChanges()));
+            }
+            if (!errors.isEmpty()) {
+                results[i] = new BatchItemResult(i, item != null ? item.getId() : null, Status.INVALID, errors);
+                continue;
+            }
+            chunk.put(i, id);
+            if (chunk.size() == chunkSize) {
+                updateChunk(items, chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            updateChunk(items, chunk, results);
+        }
+
+        return BatchResult.of(List.of(results));
+    }
+
+    // Delete every listed task; unknown ids are reported as NOT_FOUND
+    public BatchResult deleteAll(List<String> ids) {
+        checkSize(ids);
+        BatchItemResult[] results = new BatchItemResult[ids.size()];
+        Map<Integer, Long> chunk = new LinkedHashMap<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = parseId(ids.get(i));
+            if (id == null) {
+                results[i] = new BatchItemResult(i, ids.get(i), Status.INVALID, List.of("A valid task id is required"));
+                continue;
+            }
+            chunk.put(i, id);
+            if (chunk.size() == chunkSize) {
+                deleteChunk(chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            deleteChunk(chunk, results);
+        }
+
+        return BatchResult.of(List.of(results));
+    }
+
+    private void createChunk(List<TaskCreateRequest> requests, List<Integer> indexes, BatchItemResult[] results) {
+        try {
+            List<TaskEntity> saved = insert(indexes.stream().map(requests::get).collect(Collectors.toList()));
+
+            for (int k = 0; k < indexes.size(); k++) {
+                int index = indexes.get(k);
+                results[index] = new BatchItemResult(index, String.valueOf(saved.get(k).getId()), Status.CREATED, null);
+            }
+        } catch (DataAccessException | PersistenceException e) {
+            markFailed(indexes, i -> null, results, e);
+        }
+    }
+
+    // Insert already validated requests in one transaction; counters and the search index are updated once it has committed
+    List<TaskEntity> insert(List<TaskCreateRequest> requests) {
+        List<TaskEntity> saved = transactionTemplate.execute(status -> {
+            List<TaskEntity> entities = requests.stream()
+                    .map(taskMapper::toEntity)
+                    .collect(Collectors.toList());
+            List<TaskEntity> persisted = taskRepository.saveAll(entities);
+            entityManager.flush();
+            entityManager.clear();
+            return persisted;
+        });
+
+        saved.forEach(entity -> taskCounters.increment(entity.getTaskStatus()));
+        taskSearchIndex.indexAll(saved);
+        return saved;
+    }
+
+    private void updateChunk(List<TaskBatchUpdateItem> items, Map<Integer, Long> ids, BatchItemResult[] results) {
+        try {
+            List<TaskStatusEnum[]> moves = new ArrayList<>();
+            List<TaskEntity> textChanged = new ArrayList<>();
+            Map<Integer, BatchItemResult> chunkResults = transactionTemplate.execute(status -> {
+                Map<Long, TaskEntity> existing = taskRepository.findAllById(new HashSet<>(ids.values())).stream()
+                        .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+                Map<Integer, BatchItemResult> outcome = new LinkedHashMap<>();
+
+                ids.forEach((index, id) -> {
+                    TaskEntity entity = existing.get(id);
+                    if (entity == null) {
+                        outcome.put(index, notFound(index, id));
+                        return;
+                    }
+                    TaskStatusEnum previousStatus = entity.getTaskStatus();
+                    TaskUpdateRequest changes = items.get(index).getChanges();
+                    taskMapper.updateEntity(changes, entity);
+                    moves.add(new TaskStatusEnum[] { previousStatus, entity.getTaskStatus() });
+                    if (changes.getTitle() != null || changes.getDescription() != null) {
+                        textChanged.add(entity);
+                    }
+                    outcome.put(index, new BatchItemResult(index, String.valueOf(id), Status.UPDATED, null));
+                });
+
+                entityManager.flush();
+                entityManager.clear();
+                return outcome;
+            });
+
+            chunkResults.forEach((index, result) -> results[index] = result);
+            taskCache.evict(updatedIds(chunkResults, ids));
+            taskSearchIndex.indexAll(textChanged);
+            moves.forEach(move -> taskCounters.move(move[0], move[1]));
+        } catch (DataAccessException | PersistenceException e) {
+            markFailed(ids.keySet(), i -> String.valueOf(ids.get(i)), results, e);
+        }
+    }
+
+    private void deleteChunk(Map<Integer, Long> ids, BatchItemResult[] results) {
+        try {
+            Map<Long, TaskStatusEnum> deleted = transactionTemplate.execute(status -> {
+                Map<Long, TaskStatusEnum> found = taskRepository.findAllById(new HashSet<>(ids.values())).stream()
+                        .collect(Collectors.toMap(TaskEntity::getId, TaskEntity::getTaskStatus));
+                entityManager.clear();
+                if (!found.isEmpty()) {
+                    taskRepository.deleteAllByIdInBatch(found.keySet());
+                }
+                return found;
+            });
+
+            // The same id listed twice is only deleted once; later occurrences are NOT_FOUND
+            Set<Long> reported = new HashSet<>();
+            ids.forEach((index, id) -> {
+                if (deleted.containsKey(id) && reported.add(id)) {
+                    results[index] = new BatchItemResult(index, String.valueOf(id), Status.DELETED, null);
+                    taskCounters.decrement(deleted.get(id));
+                } else {
+                    results[index] = notFound(index, id);
+                }
+            });
+            taskCache.evict(deleted.keySet());
+            taskSearchIndex.removeAll(deleted.keySet());
+        } catch (DataAccessException | PersistenceException e) {
+            markFailed(ids.keySet(), i -> String.valueOf(ids.get(i)), results, e);
+        }
+    }
+
+    // Exceptions of entityManager.flush() are not translated by Spring, so JPA's PersistenceException
+    // (constraint and data errors, optimistic locking) fails the chunk just like a DataAccessException
+    private void markFailed(Collection<Integer> indexes, Function<Integer, String> idOf, BatchItemResult[] results, RuntimeException e) {
+        String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        logger.warn("Batch chunk of {} items failed: {}", indexes.size(), cause);
+        List<String> errors = List.of(cause);
+        for (int index : indexes) {
+            results[index] = new BatchItemResult(index, idOf.apply(index), Status.FAILED, errors);
+        }
+    }
+
+    private static Set<Long> updatedIds(Map<Integer, BatchItemResult> chunkResults, Map<Integer, Long> ids) {
+        return chunkResults.entrySet().stream()
+                .filter(entry -> entry.getValue().getStatus() == Status.UPDATED)
+                .map(entry -> ids.get(entry.getKey()))
+                .collect(Collectors.toSet());
+    }
+
+    private BatchItemResult notFound(int index, Long id) {
+        return new BatchItemResult(index, String.valueOf(id), Status.NOT_FOUND, List.of("Task with ID " + id + " not found"));
+    }
+
+    // Bean validation messages for one request, empty when it is valid
+    List<String> validate(Object request) {
+        if (request == null) {
+            return List.of("Request must not be null");
+        }
+        return validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.toList());
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one item");
+        }
+        if (items.size() > maxItems) {
+            throw new BadRequestException("Batch must not contain more than " + maxItems + " items");
+        }
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return id != null ? Long.valueOf(id) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.camelcase.taskapi.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.repository.TaskRepository;
+import com.camelcase.taskapi.repository.TaskStatusCount;
+
+/**
+ * In-memory task counts per status, seeded from the database once the application is ready
+ * and kept current by the TaskService write paths. Reads never touch the database.
+ *
+ * Writes made outside this process (other nodes, direct SQL) are not seen as they happen; the
+ * counters are reconciled against one grouped count query every
+ * {@code tasks.counters.reconcile-interval}, so such drift is bounded by that interval.
+ */
+@Component
+public class TaskCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCounters.class);
+
+    private final TaskRepository taskRepository;
+    private final Map<TaskStatusEnum, LongAdder> counters = new EnumMap<>(TaskStatusEnum.class);
+
+    public TaskCounters(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+        for (TaskStatusEnum status : TaskStatusEnum.values()) {
+            counters.put(status, new LongAdder());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+        logger.info("Seeded task counters: {}", snapshot());
+    }
+
+    // Brings every counter back to the database count. The difference is added rather than the counter
+    // being reset, so increments racing with the count query are kept; anything that slips in between
+    // the query and the correction is picked up by the next run.
+    @Scheduled(fixedDelayString = "${tasks.counters.reconcile-interval:PT5M}",
+            initialDelayString = "${tasks.counters.reconcile-interval:PT5M}")
+    public void reconcile() {
+        Map<TaskStatusEnum, Long> actual = new EnumMap<>(TaskStatusEnum.class);
+        for (TaskStatusEnum status : TaskStatusEnum.values()) {
+            actual.put(status, 0L);
+        }
+        for (TaskStatusCount count : taskRepository.countGroupByTaskStatus()) {
+            actual.put(count.getTaskStatus(), count.getTotal());
+        }
+
+        Map<TaskStatusEnum, Long> drift = new EnumMap<>(TaskStatusEnum.class);
+        actual.forEach((status, total) -> {
+            LongAdder counter = counters.get(status);
+            long difference = total - counter.sum();
+            if (difference != 0) {
+                counter.add(difference);
+                drift.put(status, difference);
+            }
+        });
+        if (!drift.isEmpty()) {
+            logger.debug("Reconciled task counters, drift {}", drift);
+        }
+    }
+
+    public void increment(TaskStatusEnum status) {
+        if (status != null) {
+            counters.get(status).increment();
+        }
+    }
+
+    public void decrement(TaskStatusEnum status) {
+        if (status != null) {
+            counters.get(status).decrement();
+        }
+    }
+
+    // Moves one task between statuses; no-op when the status did not change
+    public void move(TaskStatusEnum from, TaskStatusEnum to) {
+        if (from != to) {
+            decrement(from);
+            increment(to);
+        }
+    }
+
+    public long count(TaskStatusEnum status) {
+        return Math.max(counters.get(status).sum(), 0);
+    }
+
+    public long total() {
+        long total = 0;
+        for (LongAdder counter : counters.values()) {
+            total += counter.sum();
+        }
+        return Math.max(total, 0);
+    }
+
+    // Clamped count of every status, for callers that want them all at once
+    public Map<TaskStatusEnum, Long> counts() {
+        Map<TaskStatusEnum, Long> counts = new EnumMap<>(TaskStatusEnum.class);
+        for (TaskStatusEnum status : TaskStatusEnum.values()) {
+            counts.put(status, count(status));
+        }
+        return counts;
+    }
+
+    public Map<TaskStatusEnum, Long> snapshot() {
+        Map<TaskStatusEnum, Long> snapshot = new EnumMap<>(TaskStatusEnum.class);
+        counters.forEach((status, counter) -> snapshot.put(status, counter.sum()));
+        return snapshot;
+    }
+}
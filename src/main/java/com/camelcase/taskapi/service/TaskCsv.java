@@ -0,0 +1,114 @@
+package com.camelcase.taskapi.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+
+// CSV rendering and parsing of tasks (RFC 4180 quoting); exports use the columns of HEADER
+final class TaskCsv {
+
+    static final String HEADER = "id,title,description,taskStatus,dueDate";
+
+    private TaskCsv() {
+    }
+
+    static String format(Task task) {
+        return String.join(",",
+                quote(task.getId()),
+                quote(task.getTitle()),
+                quote(task.getDescription()),
+                quote(task.getTaskStatus() != null ? task.getTaskStatus().getValue() : null),
+                quote(task.getDueDate() != null ? task.getDueDate().toString() : null));
+    }
+
+    // Column name -> index from an import header row; title and taskStatus are required, unknown columns ignored
+    static Map<String, Integer> columns(String header) {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        if (!columns.containsKey("title") || !columns.containsKey("taskStatus")) {
+            throw new BadRequestException("CSV header must contain the columns title and taskStatus");
+        }
+        return columns;
+    }
+
+    // Throws IllegalArgumentException for values that cannot be converted (status, date)
+    static TaskCreateRequest parse(String record, Map<String, Integer> columns) {
+        List<String> fields = split(record);
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(field(fields, columns, "title"));
+        request.setDescription(field(fields, columns, "description"));
+
+        String status = field(fields, columns, "taskStatus");
+        if (status != null) {
+            request.setTaskStatus(TaskCreateRequest.TaskStatusEnum.fromValue(status));
+        }
+        String dueDate = field(fields, columns, "dueDate");
+        if (dueDate != null) {
+            try {
+                request.setDueDate(LocalDate.parse(dueDate));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid dueDate '" + dueDate + "'");
+            }
+        }
+        return request;
+    }
+
+    // Empty fields read as null
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    // Splits one record into unquoted field values
+    static List<String> split(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // Empty for null; quoted only when the value contains a separator, quote or line break
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
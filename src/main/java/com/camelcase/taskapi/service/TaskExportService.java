@@ -0,0 +1,94 @@
+package com.camelcase.taskapi.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.camelcase.taskapi.mapper.TaskMapper;
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Writes every task to an output stream, one line per task.
+ *
+ * Rows come from a forward-only {@link TaskRepository#streamAllBy()} cursor inside a read-only
+ * transaction and each entity is detached once written, so neither the JDBC result set nor the
+ * persistence context grows with the table.
+ */
+@Service
+public class TaskExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskExportService.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskExportService(TaskRepository taskRepository, TaskMapper taskMapper, ObjectMapper objectMapper,
+                             EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // Writes all tasks in id order; the stream is flushed but not closed
+    public void export(TaskFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == TaskFileFormat.CSV) {
+            writer.write(TaskCsv.HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            Long exported = transactionTemplate.execute(status -> {
+                long count = 0;
+                try (Stream<TaskEntity> tasks = taskRepository.streamAllBy()) {
+                    Iterator<TaskEntity> iterator = tasks.iterator();
+                    while (iterator.hasNext()) {
+                        TaskEntity taskEntity = iterator.next();
+                        writeLine(writer, format, taskMapper.toDto(taskEntity));
+                        entityManager.detach(taskEntity);
+                        count++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+            logger.info("Exported {} tasks as {}", exported, format);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeLine(Writer writer, TaskFileFormat format, Task task) throws IOException {
+        if (format == TaskFileFormat.CSV) {
+            writer.write(TaskCsv.format(task));
+        } else {
+            writer.write(objectMapper.writeValueAsString(task));
+        }
+        writer.write('\n');
+    }
+}
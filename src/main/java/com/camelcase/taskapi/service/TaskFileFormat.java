@@ -0,0 +1,49 @@
+package com.camelcase.taskapi.service;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+
+/**
+ * File formats for bulk task export and import.
+ */
+public enum TaskFileFormat {
+    // One JSON task per line (default)
+    NDJSON("application/x-ndjson", "ndjson"),
+    // RFC 4180 CSV with a header row
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TaskFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    // CSV for text/csv bodies, NDJSON otherwise
+    public static TaskFileFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.toLowerCase().startsWith(CSV.contentType)) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+
+    public static TaskFileFormat fromString(String format) {
+        if (format == null || format.isEmpty()) {
+            return NDJSON;
+        }
+
+        try {
+            return TaskFileFormat.valueOf(format.toUpperCase()); // Convert string to enum (case-insensitive)
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid format value: " + format);
+        }
+    }
+}
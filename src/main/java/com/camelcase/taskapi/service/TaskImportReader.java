@@ -0,0 +1,72 @@
+package com.camelcase.taskapi.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads an import body one record at a time: a line for NDJSON, a CSV record for CSV
+ * (quoted CSV fields may contain line breaks). Only the current record is buffered, and at most
+ * {@code maxRecordLength} characters of it; longer records are flagged and their rest skipped.
+ */
+final class TaskImportReader {
+
+    private final Reader reader;
+    private final boolean csv;
+    private final int maxRecordLength;
+    private final StringBuilder record = new StringBuilder();
+    private long lineNumber;
+    private long nextLineNumber = 1;
+    private boolean tooLong;
+
+    TaskImportReader(Reader reader, TaskFileFormat format, int maxRecordLength) {
+        this.reader = reader;
+        this.csv = format == TaskFileFormat.CSV;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    // Next record without its line terminator, or null at the end of the input
+    String next() throws IOException {
+        record.setLength(0);
+        tooLong = false;
+        lineNumber = nextLineNumber;
+        boolean quoted = false;
+        boolean read = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (c == '\n') {
+                nextLineNumber++;
+                if (!quoted || tooLong) {
+                    return trimCarriageReturn();
+                }
+            } else if (c == '"' && csv) {
+                quoted = !quoted;
+            }
+
+            if (record.length() < maxRecordLength) {
+                record.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        return read ? trimCarriageReturn() : null;
+    }
+
+    // Line on which the last returned record starts (1-based)
+    long lineNumber() {
+        return lineNumber;
+    }
+
+    boolean isTooLong() {
+        return tooLong;
+    }
+
+    private String trimCarriageReturn() {
+        int length = record.length();
+        if (length > 0 && record.charAt(length - 1) == '\r') {
+            record.setLength(length - 1);
+        }
+        return record.toString();
+    }
+}
@@ -0,0 +1,145 @@
+package com.camelcase.taskapi.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.camelcase.taskapi.dto.ImportLineError;
+import com.camelcase.taskapi.dto.ImportResult;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Imports tasks from an NDJSON or CSV stream of any size.
+ *
+ * The body is read one record at a time and valid records are inserted through
+ * {@link TaskBatchService} in chunks of {@code tasks.batch.chunk-size}, one transaction per chunk.
+ * Nothing is read ahead while a chunk is being written, so a fast client is held back by TCP flow
+ * control rather than buffered. Memory is bounded by the chunk size, the record length limit and
+ * the error report cap, never by the upload size. Committed chunks stay committed if a later one fails.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportService.class);
+
+    private final TaskBatchService taskBatchService;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final int maxLineLength;
+
+    public TaskImportService(TaskBatchService taskBatchService, ObjectMapper objectMapper,
+                             @Value("${tasks.batch.chunk-size:500}") int chunkSize,
+                             @Value("${tasks.import.max-errors:1000}") int maxErrors,
+                             @Value("${tasks.import.max-line-length:65536}") int maxLineLength) {
+        this.taskBatchService = taskBatchService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.maxLineLength = maxLineLength;
+    }
+
+    // Import every valid record of the body; blank lines are skipped, CSV bodies start with a header row
+    public ImportResult importTasks(TaskFileFormat format, InputStream body) throws IOException {
+        TaskImportReader reader = new TaskImportReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), format, maxLineLength);
+        ImportResult result = new ImportResult();
+
+        Map<String, Integer> columns = null;
+        if (format == TaskFileFormat.CSV) {
+            String header = reader.next();
+            if (header == null) {
+                return result;
+            }
+            columns = TaskCsv.columns(header);
+        }
+
+        List<TaskCreateRequest> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        String record;
+        while ((record = reader.next()) != null) {
+            if (record.isBlank()) {
+                continue;
+            }
+            long line = reader.lineNumber();
+            result.setReceived(result.getReceived() + 1);
+            if (reader.isTooLong()) {
+                reject(result, line, List.of("Line is longer than " + maxLineLength + " characters"));
+                continue;
+            }
+
+            TaskCreateRequest request;
+            try {
+                request = format == TaskFileFormat.CSV
+                        ? TaskCsv.parse(record, columns)
+                        : objectMapper.readValue(record, TaskCreateRequest.class);
+            } catch (JsonProcessingException e) {
+                reject(result, line, List.of("Malformed JSON: " + e.getOriginalMessage()));
+                continue;
+            } catch (IllegalArgumentException e) {
+                reject(result, line, List.of(e.getMessage()));
+                continue;
+            }
+
+            List<String> errors = taskBatchService.validate(request);
+            if (!errors.isEmpty()) {
+                reject(result, line, errors);
+                continue;
+            }
+            chunk.add(request);
+            chunkLines.add(line);
+            if (chunk.size() == chunkSize) {
+                insertChunk(chunk, chunkLines, result);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, chunkLines, result);
+        }
+
+        logger.info("Imported {} of {} tasks ({} rejected)", result.getImported(), result.getReceived(), result.getRejected());
+        return result;
+    }
+
+    private void insertChunk(List<TaskCreateRequest> chunk, List<Long> lines, ImportResult result) {
+        try {
+            taskBatchService.insert(chunk);
+            result.setImported(result.getImported() + chunk.size());
+            logger.debug("Import progress: {} received, {} imported, {} rejected",
+                    result.getReceived(), result.getImported(), result.getRejected());
+        } catch (DataAccessException | PersistenceException e) {
+            // PersistenceException: the chunk's flush is not translated by Spring (see TaskBatchService)
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            logger.warn("Import chunk of {} tasks failed: {}", chunk.size(), cause);
+            List<String> errors = List.of(cause);
+            lines.forEach(line -> reject(result, line, errors));
+        }
+        chunk.clear();
+        lines.clear();
+    }
+
+    // Counts the line as rejected; its details are kept only while the report is under maxErrors
+    private void reject(ImportResult result, long line, List<String> errors) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getErrors().size() < maxErrors) {
+            result.getErrors().add(new ImportLineError(line, errors));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.camelcase.taskapi.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.observation.annotation.Observed;
+
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.search.TaskSearchHits;
+import com.camelcase.taskapi.search.TaskSearchIndex;
+
+/**
+ * Full-text search over task titles and descriptions.
+ *
+ * The ranked ids come from {@link TaskSearchIndex}; the tasks themselves are loaded through
+ * {@link TaskService#getAll}, i.e. from the task cache or one IN query for the whole page.
+ */
+@Service
+@Observed(name = "tasks.service")
+public class TaskSearchService {
+
+    private static final int MAX_QUERY_LENGTH = 500;
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskService taskService;
+    private final int maxResults;
+    private final int maxPageSize;
+
+    public TaskSearchService(TaskSearchIndex taskSearchIndex, TaskService taskService,
+                             @Value("${tasks.search.max-results:10000}") int maxResults,
+                             @Value("${tasks.page.max-size:100}") int maxPageSize) {
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskService = taskService;
+        this.maxResults = maxResults;
+        this.maxPageSize = maxPageSize;
+    }
+
+    // One page of tasks matching any word of the query, best match first
+    public Page<Task> search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must not be longer than " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be positive");
+        }
+        if (size > maxPageSize) {
+            throw new BadRequestException("Page size must not be larger than " + maxPageSize);
+        }
+        int offset = Math.max(page - 1, 0) * size;
+        if ((long) offset + size > maxResults) {
+            throw new BadRequestException("Search results are limited to the first " + maxResults + " hits");
+        }
+
+        TaskSearchHits hits = taskSearchIndex.search(query, offset, size);
+        Map<Long, Task> tasks = taskService.getAll(hits.ids());
+        // Keep the index order; a task deleted since it was indexed is simply skipped
+        List<Task> content = hits.ids().stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, PageRequest.of(Math.max(page - 1, 0), size), hits.totalHits());
+    }
+}
@@ -1,5 +1,8 @@
 package com.camelcase.taskapi.service;
 
+import com.camelcase.taskapi.cache.TaskCache;
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.exception.PreconditionFailedException;
 import com.camelcase.taskapi.exception.ResourceNotFoundException;
 import com.camelcase.taskapi.mapper.TaskMapper;
 import com.camelcase.taskapi.model.Task;
@@ -8,29 +11,62 @@ import com.camelcase.taskapi.model.TaskUpdateRequest;
 import com.camelcase.taskapi.model.entity.TaskStatusEnum;
 import com.camelcase.taskapi.model.entity.TaskEntity;
 import com.camelcase.taskapi.repository.TaskRepository;
+import com.camelcase.taskapi.repository.TaskSpecifications;
+import com.camelcase.taskapi.repository.TaskStatusVersion;
+import com.camelcase.taskapi.search.TaskSearchIndex;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.observation.annotation.Observed;
+
 
 @Service
+@Observed(name = "tasks.service")
 public class TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
 
+    // Guarded writes that lose this many races in a row give up instead of spinning on a hot row
+    static final int MAX_WRITE_ATTEMPTS = 3;
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final TaskCounters taskCounters;
+    private final TaskCache taskCache;
+    private final TaskSearchIndex taskSearchIndex;
+    private final int maxPageSize;
 
-    public TaskService(TaskRepository taskRepository, TaskMapper taskMapper) {
+    public TaskService(TaskRepository taskRepository, TaskMapper taskMapper, TaskCounters taskCounters, TaskCache taskCache,
+                       TaskSearchIndex taskSearchIndex, @Value("${tasks.page.max-size:100}") int maxPageSize) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
+        this.taskCounters = taskCounters;
+        this.taskCache = taskCache;
+        this.taskSearchIndex = taskSearchIndex;
+        this.maxPageSize = maxPageSize;
     }
 
     // Get all tasks with pagination and optional status filtering
     public Page<Task> findAll(int page, int size, String status) {
+        checkPageSize(size);
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size);
         Page<TaskEntity> taskPage;
 
@@ -43,16 +79,144 @@ public class TaskService {
 
         Page<Task> p = taskPage.map(taskMapper::toDto);
 
-        logger.info("🚀 Found {} tasks", p.getContent());
+        logger.debug("Found {} of {} tasks", p.getNumberOfElements(), p.getTotalElements());
 
         return p;
     }
 
-    // Get a specific task by ID with error handling
+    // Get all tasks with the given totals mode. EXACT and ESTIMATED return a Page, NONE a plain Slice.
+    public Slice<Task> findAll(int page, int size, String status, TotalsMode totals) {
+        checkPageSize(size);
+        if (totals == TotalsMode.EXACT) {
+            return findAll(page, size, status);
+        }
+
+        Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size);
+        TaskStatusEnum statusEnum = null;
+        Slice<TaskEntity> taskSlice;
+
+        if (status != null && !status.isEmpty()) {
+            statusEnum = TaskStatusEnum.fromString(status);
+            taskSlice = taskRepository.findSliceByTaskStatus(statusEnum, pageable);
+        } else {
+            taskSlice = taskRepository.findAllBy(pageable);
+        }
+
+        return withTotals(taskSlice.map(taskMapper::toDto), statusEnum, totals);
+    }
+
+    // Get one page of tasks matching the filter. Only the given Task fields are read from the database
+    // (all of them when fields is null), and totals are computed as asked by the totals mode.
+    public Slice<Task> findAll(TaskFilter filter, int page, int size, TotalsMode totals, Set<String> fields) {
+        checkPageSize(size);
+        Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size, filter.toSort());
+        Specification<TaskEntity> spec = TaskSpecifications.matching(filter);
+
+        Slice<Task> tasks = taskRepository.findProjected(fields, spec, pageable).map(taskMapper::toDto);
+        if (totals == TotalsMode.NONE) {
+            return tasks;
+        }
+
+        long total;
+        if (totals == TotalsMode.ESTIMATED && filter.isStatusOnly()) {
+            total = filter.getStatuses().isEmpty()
+                    ? taskCounters.total()
+                    : filter.getStatuses().stream().mapToLong(taskCounters::count).sum();
+        } else {
+            // The counters only know statuses, so other filters are always counted exactly
+            total = taskRepository.count(spec);
+        }
+        return new PageImpl<>(tasks.getContent(), tasks.getPageable(), total);
+    }
+
+    // Get one page of tasks after the given cursor (keyset pagination, no count query)
+    public Slice<Task> findAfter(String after, int limit, String status) {
+        checkPageSize(limit);
+        Long afterId = TaskCursor.decode(after);
+        long lowerBound = afterId != null ? afterId : Long.MIN_VALUE;
+        Slice<TaskEntity> taskSlice;
+
+        if (status != null && !status.isEmpty()) {
+            TaskStatusEnum statusEnum = TaskStatusEnum.fromString(status);
+            taskSlice = taskRepository.findByTaskStatusAndIdGreaterThan(statusEnum, lowerBound, keysetPage(limit, statusEnum));
+        } else {
+            taskSlice = taskRepository.findByIdGreaterThan(lowerBound, keysetPage(limit, null));
+        }
+
+        return taskSlice.map(taskMapper::toDto);
+    }
+
+    // Get one page of tasks matching the filter after the given cursor, reading only the given Task fields.
+    // Cursors are ids, so cursor mode only supports the default id order.
+    public Slice<Task> findAfter(TaskFilter filter, String after, int limit, Set<String> fields) {
+        if (filter.getSort() != TaskSort.ID_ASC) {
+            throw new BadRequestException("Cursor pagination only supports the default sort (id)");
+        }
+        checkPageSize(limit);
+        Long afterId = TaskCursor.decode(after);
+        Specification<TaskEntity> spec = TaskSpecifications.matching(filter);
+        if (afterId != null) {
+            spec = spec.and(TaskSpecifications.idGreaterThan(afterId));
+        }
+
+        Pageable pageable = PageRequest.of(0, limit, filter.toSort());
+        return taskRepository.findProjected(fields, spec, pageable).map(taskMapper::toDto);
+    }
+
+    // Every page, whether numbered or cursor based, holds at most tasks.page.max-size tasks
+    private void checkPageSize(int size) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be positive");
+        }
+        if (size > maxPageSize) {
+            throw new BadRequestException("Page size must not be larger than " + maxPageSize);
+        }
+    }
+
+    // Keyset pages are in id order. With a status filter the (constant) status is sorted first as well,
+    // which matches the (task_status, id) index so the database can read it in order instead of sorting.
+    private static Pageable keysetPage(int limit, TaskStatusEnum statusEnum) {
+        return PageRequest.of(0, limit, statusEnum != null ? Sort.by("taskStatus", "id") : Sort.by("id"));
+    }
+
+    // Get a specific task by ID with error handling, served from the task cache when possible
     public Task get(String id) {
-        TaskEntity taskEntity = taskRepository.findById(Long.valueOf(id))
+        Long taskId = Long.valueOf(id);
+        Task cached = taskCache.get(taskId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = taskCache.stamp();
+        TaskEntity taskEntity = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task with ID " + id + " not found"));
-        return taskMapper.toDto(taskEntity);
+        Task task = taskMapper.toDto(taskEntity);
+        taskCache.put(taskId, task, stamp);
+        return task;
+    }
+
+    // Get several tasks by ID in one query (cache misses only); missing ids are absent from the map
+    public Map<Long, Task> getAll(Collection<Long> ids) {
+        Map<Long, Task> tasks = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            Task cached = taskCache.get(id);
+            if (cached != null) {
+                tasks.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long stamp = taskCache.stamp();
+            for (TaskEntity taskEntity : taskRepository.findAllById(misses)) {
+                Task task = taskMapper.toDto(taskEntity);
+                taskCache.put(taskEntity.getId(), task, stamp);
+                tasks.put(taskEntity.getId(), task);
+            }
+        }
+        return tasks;
     }
 
     // Create a new task
@@ -63,43 +227,120 @@ public class TaskService {
         taskEntity.setTaskStatus(TaskStatusEnum.valueOf(request.getTaskStatus().name()));
         taskEntity.setDueDate(request.getDueDate());
 
-        return taskMapper.toDto(taskRepository.save(taskEntity));
+        TaskEntity saved = taskRepository.save(taskEntity);
+        taskCounters.increment(saved.getTaskStatus());
+        taskSearchIndex.index(saved.getId(), saved.getTitle(), saved.getDescription());
+        return taskMapper.toDto(saved);
     }
 
-    // Delete a task with error handling
+    // Delete a task at whatever version it is; the version-guarded delete is done by delete(String, Long)
     public void delete(String id) {
+        delete(id, null);
+    }
+
+    // Delete a task if it is still at the expected version (any version when null).
+    // The delete is guarded by the version read with the status, so the counters always move the status
+    // of the row actually deleted; when another write got in between, the task is read again,
+    // at most MAX_WRITE_ATTEMPTS times.
+    public void delete(String id, Long expectedVersion) {
         Long taskId = Long.valueOf(id);
-        if (!taskRepository.existsById(taskId)) {
-            throw new ResourceNotFoundException("Task with ID " + id + " not found");
-        }
-        taskRepository.deleteById(taskId);
+        TaskStatusVersion current;
+        int attempts = 0;
+        do {
+            checkAttempts(id, attempts++);
+            current = taskRepository.findTaskStatusAndVersionById(taskId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task with ID " + id + " not found"));
+            checkVersion(id, expectedVersion, current.getVersion());
+        } while (taskRepository.deleteTaskByIdAndVersion(taskId, current.getVersion()) == 0);
+        taskCache.evict(taskId);
+        taskSearchIndex.remove(taskId);
+        taskCounters.decrement(current.getTaskStatus());
     }
 
-    // Update an existing task with proper error handling
+    // Update an existing task with proper error handling.
     public Task update(String id, TaskUpdateRequest request) {
+        return update(id, request, null);
+    }
+
+    // Update an existing task if it is still at the expected version (any version when null).
+    // Only the non-null fields are written, in a single UPDATE guarded by the version read up front;
+    // the response is built from that row plus the request, so the task is never re-read or merged.
+    // When another write got in between, the update matches no row and the task is read again:
+    // without an expected version the change is applied to the new row (at most MAX_WRITE_ATTEMPTS times),
+    // otherwise it fails.
+    public Task update(String id, TaskUpdateRequest request, Long expectedVersion) {
         Long taskId = Long.valueOf(id);
-        TaskEntity existingTask = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task with ID " + id + " not found"));
+        TaskStatusEnum newStatus = request.getTaskStatus() != null
+                ? TaskStatusEnum.valueOf(request.getTaskStatus().name())
+                : null;
+        TaskEntity existingTask;
+        OffsetDateTime updatedAt;
+        int updated;
+        int attempts = 0;
+        do {
+            checkAttempts(id, attempts++);
+            existingTask = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task with ID " + id + " not found"));
+            checkVersion(id, expectedVersion, existingTask.getVersion());
+            // Microseconds, the precision of the column, so the response matches later reads
+            updatedAt = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            updated = taskRepository.updatePartially(taskId, existingTask.getVersion(), updatedAt, request.getTitle(),
+                    request.getDescription(), newStatus, request.getDueDate());
+        } while (updated == 0);
+        TaskStatusEnum previousStatus = existingTask.getTaskStatus();
+        taskCache.evict(taskId);
+        taskCounters.move(previousStatus, newStatus != null ? newStatus : previousStatus);
 
-        if (request.getTitle() != null) {
-            existingTask.setTitle(request.getTitle());
-        }
-        if (request.getDescription() != null) {
-            existingTask.setDescription(request.getDescription());
+        Task task = taskMapper.toDto(existingTask);
+        taskMapper.updateDto(request, task);
+        task.setVersion(existingTask.getVersion() + 1);
+        task.setUpdatedAt(updatedAt);
+        if (request.getTitle() != null || request.getDescription() != null) {
+            taskSearchIndex.index(taskId, task.getTitle(), task.getDescription());
         }
-        if (request.getTaskStatus() != null) {
-            existingTask.setTaskStatus(TaskStatusEnum.valueOf(request.getTaskStatus().name()));
+        return task;
+    }
+
+    private static void checkVersion(String id, Long expectedVersion, long currentVersion) {
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+            throw new PreconditionFailedException("Task with ID " + id + " is at version " + currentVersion
+                    + ", not " + expectedVersion);
         }
-        if (request.getDueDate() != null) {
-            existingTask.setDueDate(request.getDueDate());
+    }
+
+    private static void checkAttempts(String id, int attempts) {
+        if (attempts == MAX_WRITE_ATTEMPTS) {
+            throw new PreconditionFailedException("Task with ID " + id + " kept changing during " + MAX_WRITE_ATTEMPTS
+                    + " attempts to write it, try again");
         }
+    }
 
-        return taskMapper.toDto(taskRepository.save(existingTask));
+    // NONE keeps the plain slice, ESTIMATED reads the counters and EXACT runs a count query
+    private Slice<Task> withTotals(Slice<Task> tasks, TaskStatusEnum statusEnum, TotalsMode totals) {
+        long total;
+        switch (totals) {
+            case NONE:
+                return tasks;
+            case ESTIMATED:
+                total = statusEnum != null ? taskCounters.count(statusEnum) : taskCounters.total();
+                break;
+            default:
+                total = statusEnum != null ? taskRepository.countByTaskStatus(statusEnum) : taskRepository.count();
+        }
+        return new PageImpl<>(tasks.getContent(), tasks.getPageable(), total);
     }
 
-    // Count tasks by status
+    // Count tasks by status (all tasks when status is empty), served from the in-memory counters
     public int countTasks(String status) {
+        if (status == null || status.isEmpty()) {
+            return (int) taskCounters.total();
+        }
         TaskStatusEnum statusEnum = TaskStatusEnum.fromString(status);
-        return (int) taskRepository.countByTaskStatus(statusEnum);
+        return (int) taskCounters.count(statusEnum);
+    }
+
+    // Count tasks of every status in one call, served from the in-memory counters
+    public Map<TaskStatusEnum, Long> countAllTasks() {
+        return taskCounters.counts();
     }
 }
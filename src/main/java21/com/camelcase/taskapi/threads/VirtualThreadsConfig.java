@@ -0,0 +1,45 @@
+package com.camelcase.taskapi.threads;
+
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Runs blocking work on virtual threads instead of pooled platform threads (Java 21 builds only,
+ * enabled by {@code tasks.virtual-threads.enabled}, see application-virtual-threads.yml).
+ *
+ * - Tomcat hands every request to a new virtual thread, so a request blocked on JDBC no longer
+ *   holds one of the 200 worker threads. GraphQL over HTTP executes its data fetchers (including
+ *   the task DataLoader) on the request thread, so TaskGraphQLController runs on it too.
+ * - {@code applicationTaskExecutor} becomes a virtual thread per task executor; Spring MVC uses
+ *   it for async requests such as the streamed export, and @Async would use it as well.
+ *
+ * The database is now the limit: requests queue for a Hikari connection instead of a thread, so
+ * the pool size (not the thread count) is what bounds concurrent JDBC work.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasks.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        logger.info("Tomcat requests run on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // Replaces Boot's pooled applicationTaskExecutor (it backs off once an Executor bean exists)
+    @Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor" })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
@@ -0,0 +1,72 @@
+package com.camelcase.taskapi.cache;
+
+import com.camelcase.taskapi.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskCacheTest {
+
+    private TaskCache nodeA;
+    private TaskCache nodeB;
+
+    @BeforeEach
+    public void setUp() {
+        InProcessTaskCacheInvalidationBus bus = new InProcessTaskCacheInvalidationBus();
+        nodeA = new TaskCache(new ConcurrentMapCacheManager(TaskCache.NAME), provider(bus));
+        nodeB = new TaskCache(new ConcurrentMapCacheManager(TaskCache.NAME), provider(bus));
+    }
+
+    @Test
+    public void testEvictionReachesOtherNodes() {
+        nodeA.put(1L, new Task(), nodeA.stamp());
+        nodeB.put(1L, new Task(), nodeB.stamp());
+        nodeB.put(2L, new Task(), nodeB.stamp());
+
+        nodeA.evict(1L);
+
+        assertThat(nodeA.get(1L)).isNull();
+        assertThat(nodeB.get(1L)).isNull();
+        assertThat(nodeB.get(2L)).isNotNull();
+    }
+
+    @Test
+    public void testWithoutBusEvictionIsLocal() {
+        StaticListableBeanFactory noBeans = new StaticListableBeanFactory();
+        TaskCache local = new TaskCache(new ConcurrentMapCacheManager(TaskCache.NAME),
+                noBeans.getBeanProvider(TaskCacheInvalidationBus.class));
+        Task task = new Task();
+        local.put(1L, task, local.stamp());
+
+        assertThat(local.get(1L)).isSameAs(task);
+        local.evict(List.of(1L));
+        assertThat(local.get(1L)).isNull();
+    }
+
+    @Test
+    public void testReadRacingAnEvictionIsNotCached() {
+        long stamp = nodeA.stamp();
+        // The old row is read, then a write on another node commits and evicts
+        Task old = new Task();
+        nodeB.evict(1L);
+
+        nodeA.put(1L, old, stamp);
+
+        assertThat(nodeA.get(1L)).isNull();
+        Task current = new Task();
+        nodeA.put(1L, current, nodeA.stamp());
+        assertThat(nodeA.get(1L)).isSameAs(current);
+    }
+
+    private static ObjectProvider<TaskCacheInvalidationBus> provider(TaskCacheInvalidationBus bus) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("taskCacheInvalidationBus", bus);
+        return beanFactory.getBeanProvider(TaskCacheInvalidationBus.class);
+    }
+}
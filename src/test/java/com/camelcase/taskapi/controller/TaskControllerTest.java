@@ -5,10 +5,18 @@ import com.camelcase.taskapi.model.Task;
 import com.camelcase.taskapi.model.TaskCreateRequest;
 import com.camelcase.taskapi.model.TaskPage;
 import com.camelcase.taskapi.model.TaskUpdateRequest;
+import com.camelcase.taskapi.service.TaskCursor;
+import com.camelcase.taskapi.service.TaskFilter;
 import com.camelcase.taskapi.service.TaskService;
+import com.camelcase.taskapi.service.TotalsMode;
 import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.exception.BadRequestException;
 import com.camelcase.taskapi.exception.GlobalExceptionHandler;
+import com.camelcase.taskapi.exception.PreconditionFailedException;
 import com.camelcase.taskapi.exception.ResourceNotFoundException;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -18,16 +26,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -46,8 +64,12 @@ public class TaskControllerTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        TaskFieldsAdvice taskFieldsAdvice = new TaskFieldsAdvice();
+        Jackson2ObjectMapperBuilder objectMapper = Jackson2ObjectMapperBuilder.json();
+        taskFieldsAdvice.customize(objectMapper);
         mockMvc = MockMvcBuilders.standaloneSetup(taskController)
-                .setControllerAdvice(new GlobalExceptionHandler()) // Add global exception handler
+                .setControllerAdvice(new GlobalExceptionHandler(Tracer.NOOP), taskFieldsAdvice) // Add global exception handler
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper.build()))
                 .build();
     }
 
@@ -56,7 +78,7 @@ public class TaskControllerTest {
         Task task1 = new Task();
         Task task2 = new Task();
         Page<Task> taskPage = new PageImpl<>(Arrays.asList(task1, task2));
-        when(taskService.findAll(anyInt(), anyInt(), isNull())).thenReturn(taskPage);
+        when(taskService.findAll(anyInt(), anyInt(), isNull(), eq(TotalsMode.EXACT))).thenReturn(taskPage);
 
         mockMvc.perform(get("/tasks")
                 .param("page", "1")
@@ -64,9 +86,135 @@ public class TaskControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.tasks").isArray())
-                .andExpect(jsonPath("$.tasks.length()").value(2));
+                .andExpect(jsonPath("$.tasks.length()").value(2))
+                .andExpect(jsonPath("$.totalItems").value(2));
 
-        verify(taskService, times(1)).findAll(anyInt(), anyInt(), isNull());
+        verify(taskService, times(1)).findAll(anyInt(), anyInt(), isNull(), eq(TotalsMode.EXACT));
+    }
+
+    @Test
+    public void testFindAllWithoutTotals() throws Exception {
+        Slice<Task> taskSlice = new SliceImpl<>(Arrays.asList(new Task(), new Task()), PageRequest.of(0, 2), true);
+        when(taskService.findAll(anyInt(), anyInt(), isNull(), eq(TotalsMode.NONE))).thenReturn(taskSlice);
+
+        mockMvc.perform(get("/tasks")
+                .param("size", "2")
+                .param("totals", "none")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalItems").doesNotExist());
+    }
+
+    @Test
+    public void testFindAllWithCursor() throws Exception {
+        Task task1 = new Task();
+        task1.setId("1");
+        Task task2 = new Task();
+        task2.setId("2");
+        Slice<Task> taskSlice = new SliceImpl<>(Arrays.asList(task1, task2), PageRequest.of(0, 2), true);
+        when(taskService.findAfter(isNull(), eq(2), isNull())).thenReturn(taskSlice);
+
+        mockMvc.perform(get("/tasks")
+                .param("limit", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(TaskCursor.encode(2L)))
+                .andExpect(jsonPath("$.totalItems").doesNotExist());
+
+        verify(taskService, never()).findAll(anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void testFindAllWithInvalidCursor() throws Exception {
+        when(taskService.findAfter(anyString(), anyInt(), isNull())).thenThrow(new BadRequestException("Invalid cursor: not-a-cursor"));
+
+        mockMvc.perform(get("/tasks")
+                .param("after", "not-a-cursor")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testFindAllWithFilters() throws Exception {
+        Slice<Task> taskSlice = new PageImpl<>(Arrays.asList(new Task()), PageRequest.of(0, 10), 1);
+        when(taskService.findAll(any(TaskFilter.class), eq(1), eq(10), eq(TotalsMode.EXACT), isNull())).thenReturn(taskSlice);
+
+        mockMvc.perform(get("/tasks")
+                .param("statuses", "pending,in_progress")
+                .param("dueFrom", "2024-01-01")
+                .param("sort", "-dueDate")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems").value(1));
+
+        verify(taskService, never()).findAll(anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void testFindAllWithFields() throws Exception {
+        Task task = new Task();
+        task.setId("1");
+        task.setTitle("Title");
+        task.setVersion(2L);
+        Slice<Task> taskSlice = new SliceImpl<>(Arrays.asList(task), PageRequest.of(0, 10), false);
+        when(taskService.findAll(any(TaskFilter.class), eq(1), eq(10), eq(TotalsMode.NONE), eq(Set.of("id", "title"))))
+                .thenReturn(taskSlice);
+
+        mockMvc.perform(get("/tasks")
+                .param("fields", "title")
+                .param("totals", "none")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value("1"))
+                .andExpect(jsonPath("$.tasks[0].title").value("Title"))
+                .andExpect(jsonPath("$.tasks[0].version").doesNotHaveJsonPath())
+                .andExpect(jsonPath("$.tasks[0].description").doesNotHaveJsonPath())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(taskService, never()).findAll(anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void testFindAllWithOnlyIds() throws Exception {
+        Task task = new Task();
+        task.setId("1");
+        task.setVersion(2L);
+        Slice<Task> taskSlice = new SliceImpl<>(Arrays.asList(task), PageRequest.of(0, 10), false);
+        when(taskService.findAll(any(TaskFilter.class), eq(1), eq(10), eq(TotalsMode.EXACT), eq(Set.of("id"))))
+                .thenReturn(taskSlice);
+
+        mockMvc.perform(get("/tasks")
+                .param("fields", "id")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value("1"))
+                .andExpect(jsonPath("$.tasks[0].version").doesNotHaveJsonPath())
+                .andExpect(jsonPath("$.tasks[0].title").doesNotHaveJsonPath());
+
+        verify(taskService, never()).findAll(anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void testFindAllRejectsUnknownField() throws Exception {
+        mockMvc.perform(get("/tasks")
+                .param("fields", "title,owner")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    public void testFindAllRejectsUnindexedFilter() throws Exception {
+        mockMvc.perform(get("/tasks")
+                .param("dueFrom", "2024-01-01")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
     }
 
     @Test
@@ -106,6 +254,63 @@ public class TaskControllerTest {
         verify(taskService, times(1)).get(anyString());
     }
 
+    @Test
+    public void testGetSendsETagAndLastModified() throws Exception {
+        Task task = new Task();
+        task.setVersion(7L);
+        task.setUpdatedAt(OffsetDateTime.of(2025, 4, 1, 12, 0, 0, 0, ZoneOffset.UTC));
+        when(taskService.get(anyString())).thenReturn(task);
+
+        mockMvc.perform(get("/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(header().string("Last-Modified", "Tue, 01 Apr 2025 12:00:00 GMT"))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+    }
+
+    @Test
+    public void testGetNotModified() throws Exception {
+        Task task = new Task();
+        task.setVersion(7L);
+        when(taskService.get(anyString())).thenReturn(task);
+
+        mockMvc.perform(get("/tasks/1").header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(content().string(""));
+
+        task.setVersion(8L);
+        mockMvc.perform(get("/tasks/1").header("If-None-Match", "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"8\""));
+    }
+
+    @Test
+    public void testFindAllNotModified() throws Exception {
+        Task task1 = new Task();
+        task1.setId("1");
+        task1.setVersion(0L);
+        Task task2 = new Task();
+        task2.setId("2");
+        task2.setVersion(3L);
+        when(taskService.findAll(anyInt(), anyInt(), isNull(), eq(TotalsMode.EXACT)))
+                .thenAnswer(invocation -> new PageImpl<>(Arrays.asList(task1, task2)));
+
+        String eTag = mockMvc.perform(get("/tasks"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(eTag).isNotNull();
+
+        mockMvc.perform(get("/tasks").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        task2.setVersion(4L);
+        mockMvc.perform(get("/tasks").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)));
+    }
+
     @Test
     public void testGetNotFound() throws Exception {
         when(taskService.get(anyString())).thenThrow(new ResourceNotFoundException("Task not found"));
@@ -117,22 +322,34 @@ public class TaskControllerTest {
         verify(taskService, times(1)).get(anyString());
     }
 
+    @Test
+    public void testErrorResponseCarriesTraceId() throws Exception {
+        TraceContext context = mock(TraceContext.class);
+        when(context.traceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+        Span span = mock(Span.class);
+        when(span.context()).thenReturn(context);
+        Tracer tracer = mock(Tracer.class);
+        when(tracer.currentSpan()).thenReturn(span);
+        MockMvc tracedMockMvc = MockMvcBuilders.standaloneSetup(taskController)
+                .setControllerAdvice(new GlobalExceptionHandler(tracer))
+                .build();
+        when(taskService.get(anyString())).thenThrow(new ResourceNotFoundException("Task not found"));
+
+        tracedMockMvc.perform(get("/tasks/1"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.traceId").value("4bf92f3577b34da6a3ce929d0e0e4736"));
+    }
+
     @Test
     public void testUpdate() throws Exception {
         TaskUpdateRequest request = new TaskUpdateRequest();
         request.setTitle("Updated Task");
 
-        Task existingTask = new Task();
-        existingTask.setTitle("Old Task");
-
         Task updatedTask = new Task();
         updatedTask.setTitle("Updated Task");
 
-        // Mock the task retrieval first
-        when(taskService.get(anyString())).thenReturn(existingTask);
-
         // Mock the task update
-        when(taskService.update(anyString(), any(TaskUpdateRequest.class))).thenReturn(updatedTask);
+        when(taskService.update(anyString(), any(TaskUpdateRequest.class), isNull())).thenReturn(updatedTask);
 
 
         mockMvc.perform(put("/tasks/1")
@@ -141,18 +358,76 @@ public class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("Updated Task"));
 
-        verify(taskService, times(1)).update(anyString(), any(TaskUpdateRequest.class));
+        verify(taskService, times(1)).update(anyString(), any(TaskUpdateRequest.class), isNull());
+        verify(taskService, never()).get(anyString());
+    }
+
+    @Test
+    public void testUpdateNotFound() throws Exception {
+        when(taskService.update(anyString(), any(TaskUpdateRequest.class), isNull()))
+                .thenThrow(new ResourceNotFoundException("Task with ID 1 not found"));
+
+        mockMvc.perform(put("/tasks/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Updated Task\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testUpdateWithIfMatch() throws Exception {
+        Task updatedTask = new Task();
+        updatedTask.setVersion(4L);
+        when(taskService.update(eq("1"), any(TaskUpdateRequest.class), eq(3L))).thenReturn(updatedTask);
+
+        mockMvc.perform(put("/tasks/1")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Updated Task\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    public void testUpdateWithStaleIfMatch() throws Exception {
+        when(taskService.update(eq("1"), any(TaskUpdateRequest.class), eq(3L)))
+                .thenThrow(new PreconditionFailedException("Task with ID 1 is at version 4, not 3"));
+
+        mockMvc.perform(put("/tasks/1")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Updated Task\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("Precondition failed"));
+    }
+
+    @Test
+    public void testDeleteWithWeakIfMatch() throws Exception {
+        mockMvc.perform(delete("/tasks/1")
+                .header("If-Match", "W/\"3\""))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(taskService, never()).delete(anyString(), any());
     }
 
     @Test
     public void testDelete() throws Exception {
-        doNothing().when(taskService).delete(anyString());
+        doNothing().when(taskService).delete(anyString(), isNull());
 
         mockMvc.perform(delete("/tasks/1")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
-        verify(taskService, times(1)).delete(anyString());
+        verify(taskService, times(1)).delete(anyString(), isNull());
+        verify(taskService, never()).get(anyString());
+    }
+
+    @Test
+    public void testDeleteNotFound() throws Exception {
+        doThrow(new ResourceNotFoundException("Task with ID 1 not found")).when(taskService).delete(anyString(), isNull());
+
+        mockMvc.perform(delete("/tasks/1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
     }
 }
\ No newline at end of file
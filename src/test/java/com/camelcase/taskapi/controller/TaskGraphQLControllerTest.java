@@ -0,0 +1,121 @@
+package com.camelcase.taskapi.controller;
+
+import com.camelcase.taskapi.cache.TaskCache;
+import com.camelcase.taskapi.mapper.TaskMapperImpl;
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.repository.TaskRepository;
+import com.camelcase.taskapi.search.TaskSearchIndex;
+import com.camelcase.taskapi.service.TaskBatchService;
+import com.camelcase.taskapi.service.TaskCounters;
+import com.camelcase.taskapi.service.TaskSearchService;
+import com.camelcase.taskapi.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// The GraphQL layer on top of the real TaskService, checked at the repository
+@GraphQlTest(TaskGraphQLController.class)
+@Import({ GraphQLDataLoaderConfig.class, TaskService.class, TaskMapperImpl.class })
+public class TaskGraphQLControllerTest {
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @MockBean
+    private TaskRepository taskRepository;
+
+    @MockBean
+    private TaskCounters taskCounters;
+
+    @MockBean
+    private TaskCache taskCache;
+
+    @MockBean
+    private TaskSearchIndex taskSearchIndex;
+
+    @MockBean
+    private TaskBatchService taskBatchService;
+
+    @MockBean
+    private TaskSearchService taskSearchService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAliasedTasksAreLoadedInOneQuery() {
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task(1L, "First"), task(2L, "Second"), task(3L, "Third")));
+
+        graphQlTester.document("""
+                        {
+                          a: task(id: "1") { title }
+                          b: task(id: "2") { title }
+                          c: task(id: "3") { title }
+                        }""")
+                .execute()
+                .path("a.title").entity(String.class).isEqualTo("First")
+                .path("b.title").entity(String.class).isEqualTo("Second")
+                .path("c.title").entity(String.class).isEqualTo("Third");
+
+        ArgumentCaptor<Iterable<Long>> ids = ArgumentCaptor.forClass(Iterable.class);
+        verify(taskRepository, times(1)).findAllById(ids.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    public void testTaskPageReadsOnlySelectedFieldsWithoutCounting() {
+        when(taskRepository.findProjected(any(), any(), any()))
+                .thenAnswer(invocation -> new SliceImpl<>(List.of(task(1L, "First")), invocation.getArgument(2), false));
+
+        graphQlTester.document("{ taskPage(taskStatus: PENDING) { tasks { id title } } }")
+                .execute()
+                .path("taskPage.tasks[0].title").entity(String.class).isEqualTo("First");
+
+        verify(taskRepository, times(1)).findProjected(eq(Set.of("id", "title")), any(), any());
+        verify(taskRepository, never()).count(any(Specification.class));
+        verify(taskRepository, never()).countByTaskStatus(any());
+        verifyNoInteractions(taskCounters);
+    }
+
+    @Test
+    public void testTaskPageCountsWhenTotalsAreSelected() {
+        when(taskRepository.findProjected(any(), any(), any()))
+                .thenAnswer(invocation -> new SliceImpl<>(List.of(task(1L, "First")), invocation.getArgument(2), false));
+        when(taskRepository.count(any(Specification.class))).thenReturn(25L);
+
+        graphQlTester.document("{ taskPage(taskStatus: PENDING) { totalItems totalPages tasks { id } } }")
+                .execute()
+                .path("taskPage.totalItems").entity(Integer.class).isEqualTo(25)
+                .path("taskPage.totalPages").entity(Integer.class).isEqualTo(3);
+
+        verify(taskRepository, times(1)).findProjected(eq(Set.of("id")), any(), any());
+        verify(taskRepository, times(1)).count(any(Specification.class));
+    }
+
+    private static TaskEntity task(Long id, String title) {
+        TaskEntity taskEntity = new TaskEntity();
+        taskEntity.setId(id);
+        taskEntity.setTitle(title);
+        taskEntity.setTaskStatus(TaskStatusEnum.PENDING);
+        taskEntity.setVersion(0L);
+        return taskEntity;
+    }
+}
@@ -0,0 +1,95 @@
+package com.camelcase.taskapi.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestLogFilterTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLogFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final RequestLogFilter filter = new RequestLogFilter(0.0, "/api/auth/login=1.0, /tasks/search=0.5");
+
+    @BeforeEach
+    public void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    public void testUnsampledRequestIsNotLogged() throws Exception {
+        filter.doFilter(request("/tasks/1"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    public void testSampledPathIsLoggedWithoutQuery() throws Exception {
+        MockHttpServletRequest request = request("/api/auth/login");
+        request.setQueryString("username=admin");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getLevel()).isEqualTo(Level.INFO);
+        assertThat(appender.list.get(0).getFormattedMessage()).startsWith("method=GET path=/api/auth/login status=200 durationMs=");
+    }
+
+    @Test
+    public void testServerErrorIsAlwaysLogged() throws Exception {
+        filter.doFilter(request("/tasks"), new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                resp.setStatus(503);
+            }
+        }));
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.WARN);
+    }
+
+    @Test
+    public void testDebugLevelLogsEveryRequest() throws Exception {
+        logger.setLevel(Level.DEBUG);
+        MockHttpServletRequest request = request("/tasks");
+        request.setQueryString("status=pending");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getFormattedMessage()).endsWith("query=status=pending");
+    }
+
+    @Test
+    public void testLongestPrefixWins() {
+        assertThat(filter.sampleRate("/tasks/search")).isEqualTo(0.5);
+        assertThat(filter.sampleRate("/tasks/7")).isEqualTo(0.0);
+        assertThat(filter.sampleRate("/api/auth/login")).isEqualTo(1.0);
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRequestURI(path);
+        return request;
+    }
+}
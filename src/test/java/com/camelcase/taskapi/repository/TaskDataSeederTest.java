@@ -0,0 +1,51 @@
+package com.camelcase.taskapi.repository;
+
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+public class TaskDataSeederTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    public void testSeedsReproducibleTasks() {
+        new TaskDataSeeder(jdbcTemplate, 100_001).run(null);
+
+        assertThat(taskRepository.count()).isEqualTo(100_001);
+        assertThat(taskRepository.countByTaskStatus(TaskStatusEnum.PENDING)).isEqualTo(33_334);
+
+        TaskEntity first = taskRepository.findById(TaskDataSeeder.FIRST_ID).orElseThrow();
+        assertThat(first.getTitle()).isEqualTo("Migrate task 1001");
+        assertThat(first.getDescription()).isNull();
+        assertThat(first.getTaskStatus()).isEqualTo(TaskStatusEnum.COMPLETED);
+        assertThat(first.getDueDate()).isEqualTo(LocalDate.of(2024, 1, 1).plusDays(1001L * 7919 % 730));
+
+        TaskEntity second = taskRepository.findById(TaskDataSeeder.FIRST_ID + 1).orElseThrow();
+        assertThat(second.getDescription()).isEqualTo("Generated task 1002");
+    }
+
+    @Test
+    public void testSequenceContinuesAfterTheSeededIds() {
+        new TaskDataSeeder(jdbcTemplate, 100).run(null);
+
+        Long next = jdbcTemplate.queryForObject("select next value for tasks_seq", Long.class);
+
+        // The pooled generator hands out the block ending at this value
+        assertThat(next - 50).isGreaterThanOrEqualTo(TaskDataSeeder.FIRST_ID + 99);
+    }
+}
@@ -0,0 +1,84 @@
+package com.camelcase.taskapi.repository;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Filtered list and count latency with and without the tasks indexes.
+ * Excluded from the normal build; run with
+ * {@code mvn test -Dgroups=benchmark -DexcludedGroups= -Dtest=TaskIndexBenchmarkTest -Dbenchmark.rows=1000000}
+ * (add {@code -DargLine=-Xmx4g} for 10M rows, the table lives in the in-memory H2 database).
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskIndexBenchmarkTest {
+
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 30;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void benchmarkStatusFilters() {
+        long rows = Long.getLong("benchmark.rows", 1_000_000L);
+        jdbcTemplate.execute("insert into tasks (id, title, description, task_status, due_date) "
+                + "select x, 'Task ' || x, 'Description ' || x, "
+                + "case when mod(x, 100) = 0 then 'IN_PROGRESS' when mod(x, 10) < 3 then 'COMPLETED' else 'PENDING' end, "
+                + "dateadd(day, mod(x, 365), date '2030-01-01') "
+                + "from system_range(1, " + rows + ")");
+        jdbcTemplate.execute("analyze");
+
+        System.out.printf("%,d rows, median of %d runs%n", rows, ITERATIONS);
+        report("with indexes");
+        jdbcTemplate.execute("drop index idx_tasks_status_id");
+        jdbcTemplate.execute("drop index idx_tasks_status_due_date");
+        report("without indexes");
+    }
+
+    // COMPLETED is 30% of the rows, IN_PROGRESS 1%
+    private void report(String label) {
+        for (TaskStatusEnum status : new TaskStatusEnum[] { TaskStatusEnum.COMPLETED, TaskStatusEnum.IN_PROGRESS }) {
+            PageRequest firstPage = PageRequest.of(0, 20);
+            PageRequest deepPage = PageRequest.of(400, 20);
+            PageRequest keyset = PageRequest.of(0, 20, Sort.by("taskStatus", "id"));
+            System.out.printf("%-16s %-12s page 1 %8.2f ms  page 401 %8.2f ms  keyset %8.2f ms  count %8.2f ms%n",
+                    label, status,
+                    median(() -> taskRepository.findSliceByTaskStatus(status, firstPage)),
+                    median(() -> taskRepository.findSliceByTaskStatus(status, deepPage)),
+                    median(() -> taskRepository.findByTaskStatusAndIdGreaterThan(status, 500_000L, keyset)),
+                    median(() -> taskRepository.countByTaskStatus(status)));
+        }
+    }
+
+    private static double median(Supplier<?> query) {
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[ITERATIONS / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,146 @@
+package com.camelcase.taskapi.repository;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.service.TaskFilter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.camelcase.taskapi.repository.TaskQueryPlanCheckerTest$CapturingInspector")
+@ActiveProfiles("test")
+public class TaskQueryPlanCheckerTest {
+
+    // Column compared in a WHERE clause, with or without a table alias
+    private static final Pattern CONDITION = Pattern.compile("(?:\\w+\\.)?(\\w+)\\s*(?:>=|<=|=|>|<|\\bin\\b|\\blike\\b)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    // Records the SQL Hibernate generates
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Test
+    public void testFilteredQueriesUseAnIndex() {
+        TaskQueryPlanChecker.QUERIES.forEach((method, sql) -> {
+            String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+            assertThat(TaskQueryPlanChecker.isFullScan(plan)).as(method + ":\n" + plan).isFalse();
+        });
+    }
+
+    @Test
+    public void testFullScanIsDetected() {
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain select id from tasks where description = 'x'", String.class));
+
+        assertThat(TaskQueryPlanChecker.isFullScan(plan)).isTrue();
+        assertThat(TaskQueryPlanChecker.isFullScan("Seq Scan on tasks  (cost=0.00..1.01 rows=1 width=8)")).isTrue();
+    }
+
+    // The checked SQL is hand-written: it must still filter and sort like the repository method it stands for,
+    // called the way TaskService calls it
+    @Test
+    public void testCheckedQueriesMatchTheRepository() {
+        Map<String, Consumer<TaskRepository>> calls = new LinkedHashMap<>();
+        calls.put("findByTaskStatus", repository -> repository.findByTaskStatus(TaskStatusEnum.PENDING, PageRequest.of(0, 10)));
+        calls.put("countByTaskStatus", repository -> repository.countByTaskStatus(TaskStatusEnum.PENDING));
+        calls.put("findByTaskStatusAndIdGreaterThan", repository -> repository.findByTaskStatusAndIdGreaterThan(
+                TaskStatusEnum.PENDING, 0L, PageRequest.of(0, 11, Sort.by("taskStatus", "id"))));
+        calls.put("findProjected(statuses, due range)", repository -> findProjected(repository, Set.of("title", "dueDate"),
+                TaskFilter.fromParams(List.of("pending", "in_progress"), "2024-01-01", "2024-12-31", null, "dueDate")));
+        calls.put("findProjected(title prefix)", repository -> findProjected(repository, Set.of("title"),
+                TaskFilter.fromParams(null, null, null, "Rep", null)));
+        calls.put("findTaskStatusAndVersionById", repository -> repository.findTaskStatusAndVersionById(1L));
+
+        assertThat(calls.keySet()).containsExactlyElementsOf(TaskQueryPlanChecker.QUERIES.keySet());
+        calls.forEach((key, call) -> {
+            String method = key.contains("(") ? key.substring(0, key.indexOf('(')) : key;
+            assertThat(Arrays.stream(TaskRepository.class.getMethods()).map(Method::getName))
+                    .as("TaskRepository." + method).contains(method);
+
+            CapturingInspector.STATEMENTS.clear();
+            call.accept(taskRepository);
+            assertThat(CapturingInspector.STATEMENTS).as(key).isNotEmpty();
+            String generated = CapturingInspector.STATEMENTS.get(0);
+            String checked = TaskQueryPlanChecker.QUERIES.get(key);
+
+            assertThat(conditions(checked)).as(key + " WHERE of " + generated).isEqualTo(conditions(generated));
+            assertThat(orderBy(checked)).as(key + " ORDER BY of " + generated).isEqualTo(orderBy(generated));
+        });
+    }
+
+    private static void findProjected(TaskRepository repository, Set<String> attributes, TaskFilter filter) {
+        repository.findProjected(attributes, TaskSpecifications.matching(filter), PageRequest.of(0, 10, filter.toSort()));
+    }
+
+    // Sorted columns the WHERE clause compares
+    private static List<String> conditions(String sql) {
+        List<String> columns = new ArrayList<>();
+        Matcher matcher = CONDITION.matcher(clause(sql, " where "));
+        while (matcher.find()) {
+            columns.add(matcher.group(1));
+        }
+        columns.sort(null);
+        return columns;
+    }
+
+    // ORDER BY columns without table aliases, in order; positions (order by 3,1) are resolved against the select list
+    private static List<String> orderBy(String sql) {
+        String clause = clause(sql, " order by ");
+        if (clause.isEmpty()) {
+            return List.of();
+        }
+        List<String> selected = columns(sql.toLowerCase(Locale.ROOT).replaceAll("^select | from .*$", ""));
+        return columns(clause).stream()
+                .map(column -> column.matches("\\d+") ? selected.get(Integer.parseInt(column) - 1) : column)
+                .toList();
+    }
+
+    private static List<String> columns(String list) {
+        return Arrays.stream(list.split(","))
+                .map(column -> column.trim().replaceAll("^\\w+\\.", "").replaceAll("\\s+asc$", ""))
+                .toList();
+    }
+
+    // The text after the keyword up to the next clause
+    private static String clause(String sql, String keyword) {
+        String lower = sql.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        int start = lower.indexOf(keyword);
+        if (start < 0) {
+            return "";
+        }
+        String rest = lower.substring(start + keyword.length());
+        return rest.split(" order by | offset | fetch | limit ")[0].trim();
+    }
+}
@@ -9,11 +9,19 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -45,10 +53,151 @@ public class TaskRepositoryTest {
         assertThat(completedTasks.getContent()).hasSize(2);
     }
 
+    @Test
+    public void testKeysetPagination() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("id"));
+        Slice<TaskEntity> first = taskRepository.findByIdGreaterThan(Long.MIN_VALUE, pageable);
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+
+        Long lastId = first.getContent().get(1).getId();
+        Slice<TaskEntity> second = taskRepository.findByIdGreaterThan(lastId, pageable);
+
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.getContent().get(0).getId()).isGreaterThan(lastId);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testKeysetPaginationByTaskStatus() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+        Slice<TaskEntity> completedTasks = taskRepository.findByTaskStatusAndIdGreaterThan(TaskStatusEnum.COMPLETED, Long.MIN_VALUE, pageable);
+
+        assertThat(completedTasks.getContent()).hasSize(2);
+        assertThat(completedTasks.hasNext()).isFalse();
+    }
+
     @Test
     public void testCountByTaskStatus() {
         long completedCount = taskRepository.countByTaskStatus(TaskStatusEnum.COMPLETED);
 
         assertThat(completedCount).isEqualTo(2);
     }
+
+    @Test
+    public void testCountGroupByTaskStatus() {
+        List<TaskStatusCount> counts = taskRepository.countGroupByTaskStatus();
+
+        assertThat(counts)
+                .extracting(TaskStatusCount::getTaskStatus, TaskStatusCount::getTotal)
+                .containsExactlyInAnyOrder(
+                        tuple(TaskStatusEnum.COMPLETED, 2L),
+                        tuple(TaskStatusEnum.PENDING, 1L));
+    }
+
+    @Test
+    public void testUpdatePartially() {
+        TaskEntity task = taskRepository.save(new TaskEntity(null, "Title", "Keep me", TaskStatusEnum.PENDING, null));
+        LocalDate dueDate = LocalDate.of(2030, 1, 1);
+
+        OffsetDateTime updatedAt = OffsetDateTime.now().plusMinutes(1).truncatedTo(ChronoUnit.MICROS);
+
+        int updated = taskRepository.updatePartially(task.getId(), task.getVersion(), updatedAt, null, null, TaskStatusEnum.COMPLETED, dueDate);
+
+        assertThat(updated).isEqualTo(1);
+        TaskEntity reloaded = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(reloaded.getVersion()).isEqualTo(task.getVersion() + 1);
+        assertThat(reloaded.getUpdatedAt()).isAtSameInstantAs(updatedAt);
+        assertThat(reloaded.getTitle()).isEqualTo("Title");
+        assertThat(reloaded.getDescription()).isEqualTo("Keep me");
+        assertThat(reloaded.getTaskStatus()).isEqualTo(TaskStatusEnum.COMPLETED);
+        assertThat(reloaded.getDueDate()).isEqualTo(dueDate);
+    }
+
+    @Test
+    public void testUpdatePartiallyMissingTask() {
+        assertThat(taskRepository.updatePartially(-1L, 0L, OffsetDateTime.now(), "Title", null, null, null)).isZero();
+    }
+
+    @Test
+    public void testUpdatePartiallyStaleVersion() {
+        TaskEntity task = taskRepository.save(new TaskEntity(null, "Title", null, TaskStatusEnum.PENDING, null));
+
+        assertThat(task.getVersion()).isZero();
+        assertThat(taskRepository.updatePartially(task.getId(), 1L, OffsetDateTime.now(), "Changed", null, null, null)).isZero();
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getTitle()).isEqualTo("Title");
+    }
+
+    @Test
+    public void testDeleteTaskByIdAndVersion() {
+        TaskEntity task = taskRepository.save(new TaskEntity(null, "Doomed", null, TaskStatusEnum.PENDING, null));
+
+        TaskStatusVersion current = taskRepository.findTaskStatusAndVersionById(task.getId()).orElseThrow();
+        assertThat(current.getTaskStatus()).isEqualTo(TaskStatusEnum.PENDING);
+        assertThat(current.getVersion()).isZero();
+        assertThat(taskRepository.deleteTaskByIdAndVersion(task.getId(), 1L)).isZero();
+        assertThat(taskRepository.deleteTaskByIdAndVersion(task.getId(), 0L)).isEqualTo(1);
+        assertThat(taskRepository.deleteTaskByIdAndVersion(task.getId(), 0L)).isZero();
+        assertThat(taskRepository.existsById(task.getId())).isFalse();
+    }
+
+    @Test
+    public void testFindProjectedLoadsOnlySelectedAttributes() {
+        taskRepository.save(new TaskEntity(null, "Projected", "Not loaded", TaskStatusEnum.IN_PROGRESS, LocalDate.now()));
+
+        Slice<TaskEntity> slice = taskRepository.findProjected(Set.of("title", "unknown"),
+                TaskSpecifications.hasStatusIn(Set.of(TaskStatusEnum.IN_PROGRESS)), PageRequest.of(0, 10));
+
+        assertThat(slice.getContent()).hasSize(1);
+        TaskEntity task = slice.getContent().get(0);
+        assertThat(task.getId()).isNotNull();
+        assertThat(task.getTitle()).isEqualTo("Projected");
+        assertThat(task.getDescription()).isNull();
+        assertThat(task.getTaskStatus()).isNull();
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testFindProjectedKeyset() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("id"));
+
+        Slice<TaskEntity> first = taskRepository.findProjected(Set.of(), null, pageable);
+        Long lastId = first.getContent().get(1).getId();
+        Slice<TaskEntity> second = taskRepository.findProjected(Set.of(), TaskSpecifications.idGreaterThan(lastId), pageable);
+
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.getContent().get(0).getId()).isGreaterThan(lastId);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testFindProjectedWithStatusesAndDueRange() {
+        LocalDate today = LocalDate.now();
+        taskRepository.save(new TaskEntity(null, "Due soon", null, TaskStatusEnum.PENDING, today.plusDays(1)));
+        taskRepository.save(new TaskEntity(null, "Due later", null, TaskStatusEnum.IN_PROGRESS, today.plusDays(3)));
+        taskRepository.save(new TaskEntity(null, "Too late", null, TaskStatusEnum.PENDING, today.plusDays(30)));
+        taskRepository.save(new TaskEntity(null, "Done", null, TaskStatusEnum.COMPLETED, today.plusDays(2)));
+
+        Specification<TaskEntity> spec = TaskSpecifications.hasStatusIn(Set.of(TaskStatusEnum.PENDING, TaskStatusEnum.IN_PROGRESS))
+                .and(TaskSpecifications.dueOnOrAfter(today))
+                .and(TaskSpecifications.dueOnOrBefore(today.plusDays(7)));
+        Slice<TaskEntity> slice = taskRepository.findProjected(null, spec,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "dueDate", "id")));
+
+        assertThat(slice.getContent()).extracting(TaskEntity::getTitle).containsExactly("Due later", "Due soon");
+        assertThat(slice.getContent().get(0).getDescription()).isNull();
+        assertThat(taskRepository.count(spec)).isEqualTo(2);
+    }
+
+    @Test
+    public void testTitleStartsWithEscapesWildcards() {
+        taskRepository.save(new TaskEntity(null, "50% done", null, TaskStatusEnum.PENDING, LocalDate.now()));
+        taskRepository.save(new TaskEntity(null, "500 items", null, TaskStatusEnum.PENDING, LocalDate.now()));
+
+        assertThat(taskRepository.findAll(TaskSpecifications.titleStartsWith("50%")))
+                .extracting(TaskEntity::getTitle).containsExactly("50% done");
+        assertThat(taskRepository.findAll(TaskSpecifications.titleStartsWith("50"))).hasSize(2);
+    }
 }
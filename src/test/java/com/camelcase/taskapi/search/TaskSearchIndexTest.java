@@ -0,0 +1,74 @@
+package com.camelcase.taskapi.search;
+
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TaskSearchIndex.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskSearchIndexTest {
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    public void testRebuildRanksTitleMatchesFirst() {
+        TaskEntity inDescription = taskRepository.save(new TaskEntity(null, "Write docs", "Explain the invoice flow", TaskStatusEnum.PENDING, LocalDate.now()));
+        TaskEntity inTitle = taskRepository.save(new TaskEntity(null, "Invoice export", "Monthly job", TaskStatusEnum.PENDING, LocalDate.now()));
+        taskRepository.save(new TaskEntity(null, "Unrelated", null, TaskStatusEnum.PENDING, LocalDate.now()));
+        try {
+            taskSearchIndex.rebuild();
+
+            TaskSearchHits hits = taskSearchIndex.search("INVOICE", 0, 10);
+
+            assertThat(hits.ids()).containsExactly(inTitle.getId(), inDescription.getId());
+            assertThat(hits.totalHits()).isEqualTo(2);
+        } finally {
+            taskRepository.deleteAll();
+        }
+    }
+
+    @Test
+    public void testWritesAreVisibleToSearch() {
+        taskSearchIndex.index(1L, "Plan sprint", null);
+        taskSearchIndex.index(2L, "Plan release", "Tag and publish");
+        assertThat(taskSearchIndex.search("plan", 0, 10).totalHits()).isEqualTo(2);
+
+        taskSearchIndex.index(1L, "Review sprint", null);
+        taskSearchIndex.remove(2L);
+
+        assertThat(taskSearchIndex.search("plan", 0, 10).ids()).isEmpty();
+        assertThat(taskSearchIndex.search("review", 0, 10).ids()).containsExactly(1L);
+    }
+
+    @Test
+    public void testPagingAndEmptyQuery() {
+        taskSearchIndex.indexAll(List.of(
+                new TaskEntity(11L, "Alpha one", null, TaskStatusEnum.PENDING, null),
+                new TaskEntity(12L, "Alpha two", null, TaskStatusEnum.PENDING, null),
+                new TaskEntity(13L, "Alpha three", null, TaskStatusEnum.PENDING, null)));
+
+        TaskSearchHits second = taskSearchIndex.search("alpha", 2, 2);
+
+        assertThat(second.ids()).hasSize(1);
+        assertThat(second.totalHits()).isEqualTo(3);
+        assertThat(taskSearchIndex.search("... !!", 0, 10).totalHits()).isZero();
+    }
+}
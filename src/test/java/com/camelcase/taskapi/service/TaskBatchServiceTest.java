@@ -0,0 +1,138 @@
+package com.camelcase.taskapi.service;
+
+import com.camelcase.taskapi.cache.TaskCache;
+import com.camelcase.taskapi.dto.BatchItemResult.Status;
+import com.camelcase.taskapi.dto.BatchResult;
+import com.camelcase.taskapi.dto.TaskBatchUpdateItem;
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.mapper.TaskMapperImpl;
+import com.camelcase.taskapi.model.Task;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.model.TaskUpdateRequest;
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.repository.TaskRepository;
+import com.camelcase.taskapi.search.TaskSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "tasks.batch.chunk-size=2")
+@ActiveProfiles("test")
+@Import({ TaskBatchService.class, TaskCounters.class, TaskCache.class, TaskSearchIndex.class, TaskMapperImpl.class, LocalValidatorFactoryBean.class,
+        TaskBatchServiceTest.CacheTestConfig.class })
+public class TaskBatchServiceTest {
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Autowired
+    private TaskCache taskCache;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @TestConfiguration
+    static class CacheTestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(TaskCache.NAME);
+        }
+    }
+
+    @Test
+    public void testCreateAllReportsEachItem() {
+        List<TaskCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(createRequest("Task " + i));
+        }
+        requests.add(createRequest("x"));
+        long pendingBefore = taskCounters.snapshot().get(TaskStatusEnum.PENDING);
+
+        BatchResult result = taskBatchService.createAll(requests);
+
+        assertThat(result.getSucceeded()).isEqualTo(5);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults()).extracting("status")
+                .containsExactly(Status.CREATED, Status.CREATED, Status.CREATED, Status.CREATED, Status.CREATED, Status.INVALID);
+        assertThat(taskRepository.count()).isEqualTo(5);
+        assertThat(taskCounters.snapshot().get(TaskStatusEnum.PENDING)).isEqualTo(pendingBefore + 5);
+        assertThat(taskSearchIndex.search("task", 0, 10).totalHits()).isEqualTo(5);
+    }
+
+    @Test
+    public void testOverlongDescriptionIsInvalid() {
+        TaskCreateRequest request = createRequest("Long description");
+        request.setDescription("a".repeat(256));
+
+        BatchResult result = taskBatchService.createAll(List.of(request));
+
+        assertThat(result.getResults()).extracting("status").containsExactly(Status.INVALID);
+        assertThat(result.getResults().get(0).getErrors()).containsExactly("description: size must be between 0 and 255");
+    }
+
+    @Test
+    public void testUpdateAllAppliesNonNullFields() {
+        TaskEntity saved = taskRepository.save(new TaskEntity(null, "Original", "Keep me", TaskStatusEnum.PENDING, LocalDate.now()));
+        taskCache.put(saved.getId(), new Task(), taskCache.stamp());
+        TaskUpdateRequest changes = new TaskUpdateRequest();
+        changes.setTaskStatus(TaskUpdateRequest.TaskStatusEnum.COMPLETED);
+
+        BatchResult result = taskBatchService.updateAll(List.of(
+                new TaskBatchUpdateItem(String.valueOf(saved.getId()), changes),
+                new TaskBatchUpdateItem("999999", changes)));
+
+        assertThat(result.getResults()).extracting("status").containsExactly(Status.UPDATED, Status.NOT_FOUND);
+        TaskEntity updated = taskRepository.findById(saved.getId()).orElseThrow();
+        assertThat(updated.getTaskStatus()).isEqualTo(TaskStatusEnum.COMPLETED);
+        assertThat(updated.getDescription()).isEqualTo("Keep me");
+        assertThat(taskCache.get(saved.getId())).isNull();
+    }
+
+    @Test
+    public void testDeleteAllReportsMissingIds() {
+        TaskEntity saved = taskRepository.save(new TaskEntity(null, "Doomed", null, TaskStatusEnum.PENDING, LocalDate.now()));
+        String id = String.valueOf(saved.getId());
+        taskCache.put(saved.getId(), new Task(), taskCache.stamp());
+
+        BatchResult result = taskBatchService.deleteAll(List.of(id, id, "999999", "abc"));
+
+        assertThat(result.getResults()).extracting("status")
+                .containsExactly(Status.DELETED, Status.NOT_FOUND, Status.NOT_FOUND, Status.INVALID);
+        assertThat(taskRepository.existsById(saved.getId())).isFalse();
+        assertThat(taskCache.get(saved.getId())).isNull();
+    }
+
+    @Test
+    public void testEmptyBatchIsRejected() {
+        assertThrows(BadRequestException.class, () -> taskBatchService.deleteAll(List.of()));
+    }
+
+    private static TaskCreateRequest createRequest(String title) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        request.setTaskStatus(TaskCreateRequest.TaskStatusEnum.PENDING);
+        request.setDueDate(LocalDate.now());
+        return request;
+    }
+}
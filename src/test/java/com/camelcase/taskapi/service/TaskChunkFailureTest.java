@@ -0,0 +1,118 @@
+package com.camelcase.taskapi.service;
+
+import com.camelcase.taskapi.cache.TaskCache;
+import com.camelcase.taskapi.dto.BatchItemResult.Status;
+import com.camelcase.taskapi.dto.BatchResult;
+import com.camelcase.taskapi.dto.ImportLineError;
+import com.camelcase.taskapi.dto.ImportResult;
+import com.camelcase.taskapi.mapper.TaskMapperImpl;
+import com.camelcase.taskapi.model.TaskCreateRequest;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.repository.TaskRepository;
+import com.camelcase.taskapi.search.TaskSearchIndex;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Chunks that the database rejects. Not transactional, so every chunk commits or rolls back on its own as in
+// production, and validation is mocked away so that bad rows reach the database.
+@DataJpaTest(properties = "tasks.batch.chunk-size=2")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ TaskImportService.class, TaskBatchService.class, TaskCounters.class, TaskCache.class, TaskSearchIndex.class, TaskMapperImpl.class,
+        TaskChunkFailureTest.CacheTestConfig.class })
+public class TaskChunkFailureTest {
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @MockBean
+    private Validator validator;
+
+    @TestConfiguration
+    static class CacheTestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(TaskCache.NAME);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    public void testFailingChunkIsReportedAndRolledBack() {
+        long pendingBefore = taskCounters.snapshot().get(TaskStatusEnum.PENDING);
+
+        // Chunks of two: the second one holds a description too long for its column
+        BatchResult result = taskBatchService.createAll(List.of(
+                createRequest("First", null), createRequest("Second", null),
+                createRequest("Third", null), createRequest("Fourth", "a".repeat(300))));
+
+        assertThat(result.getResults()).extracting("status")
+                .containsExactly(Status.CREATED, Status.CREATED, Status.FAILED, Status.FAILED);
+        assertThat(result.getResults().get(3).getErrors()).isNotEmpty();
+        assertThat(taskRepository.count()).isEqualTo(2);
+        assertThat(taskCounters.snapshot().get(TaskStatusEnum.PENDING)).isEqualTo(pendingBefore + 2);
+    }
+
+    @Test
+    public void testFailingImportChunkRejectsItsLines() throws Exception {
+        String body = "title,description,taskStatus,dueDate\n"
+                + "First,,pending,2030-01-01\n"
+                + "Second,,pending,2030-01-01\n"
+                + "Third," + "a".repeat(300) + ",pending,2030-01-01\n"
+                + "Fourth,,pending,2030-01-01\n"
+                + "Fifth,,pending,2030-01-01\n";
+
+        ImportResult result = taskImportService.importTasks(TaskFileFormat.CSV,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getReceived()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportLineError::getLine).containsExactly(4L, 5L);
+        assertThat(taskRepository.count()).isEqualTo(3);
+    }
+
+    private static TaskCreateRequest createRequest(String title, String description) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        request.setDescription(description);
+        request.setTaskStatus(TaskCreateRequest.TaskStatusEnum.PENDING);
+        request.setDueDate(LocalDate.now());
+        return request;
+    }
+}
@@ -0,0 +1,67 @@
+package com.camelcase.taskapi.service;
+
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.repository.TaskRepository;
+import com.camelcase.taskapi.repository.TaskStatusCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TaskCountersTest {
+
+    private TaskRepository taskRepository;
+    private TaskCounters taskCounters;
+
+    @BeforeEach
+    public void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        taskCounters = new TaskCounters(taskRepository);
+    }
+
+    @Test
+    public void testReconcileCorrectsDrift() {
+        taskCounters.increment(TaskStatusEnum.PENDING);
+        taskCounters.increment(TaskStatusEnum.COMPLETED);
+        when(taskRepository.countGroupByTaskStatus()).thenReturn(List.of(
+                count(TaskStatusEnum.PENDING, 7),
+                count(TaskStatusEnum.IN_PROGRESS, 2)));
+
+        taskCounters.reconcile();
+
+        assertThat(taskCounters.count(TaskStatusEnum.PENDING)).isEqualTo(7);
+        assertThat(taskCounters.count(TaskStatusEnum.IN_PROGRESS)).isEqualTo(2);
+        // A status missing from the grouped count has no tasks left
+        assertThat(taskCounters.count(TaskStatusEnum.COMPLETED)).isZero();
+        assertThat(taskCounters.total()).isEqualTo(9);
+    }
+
+    @Test
+    public void testCountsAreClamped() {
+        taskCounters.decrement(TaskStatusEnum.PENDING);
+        taskCounters.move(TaskStatusEnum.IN_PROGRESS, TaskStatusEnum.COMPLETED);
+
+        assertThat(taskCounters.counts()).containsEntry(TaskStatusEnum.PENDING, 0L)
+                .containsEntry(TaskStatusEnum.IN_PROGRESS, 0L)
+                .containsEntry(TaskStatusEnum.COMPLETED, 1L);
+        assertThat(taskCounters.snapshot()).containsEntry(TaskStatusEnum.PENDING, -1L);
+    }
+
+    private static TaskStatusCount count(TaskStatusEnum status, long total) {
+        return new TaskStatusCount() {
+            @Override
+            public TaskStatusEnum getTaskStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
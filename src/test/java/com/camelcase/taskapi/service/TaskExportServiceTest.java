@@ -0,0 +1,74 @@
+package com.camelcase.taskapi.service;
+
+import com.camelcase.taskapi.mapper.TaskMapperImpl;
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.model.entity.TaskStatusEnum;
+import com.camelcase.taskapi.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ TaskExportService.class, TaskMapperImpl.class })
+public class TaskExportServiceTest {
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    public void setUp() {
+        taskRepository.deleteAll();
+        taskRepository.save(new TaskEntity(null, "First", "Plain", TaskStatusEnum.PENDING, LocalDate.of(2030, 1, 1)));
+        taskRepository.save(new TaskEntity(null, "Second", "Has, comma and \"quotes\"", TaskStatusEnum.COMPLETED, null));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    public void testExportNdjson() throws Exception {
+        String[] lines = export(TaskFileFormat.NDJSON).split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"title\":\"First\"", "\"taskStatus\":\"pending\"", "\"dueDate\":\"2030-01-01\"");
+        assertThat(lines[1]).contains("\"title\":\"Second\"");
+    }
+
+    @Test
+    public void testExportCsv() throws Exception {
+        String[] lines = export(TaskFileFormat.CSV).split("\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("id,title,description,taskStatus,dueDate");
+        assertThat(lines[1]).endsWith(",First,Plain,pending,2030-01-01");
+        assertThat(lines[2]).endsWith(",Second,\"Has, comma and \"\"quotes\"\"\",completed,");
+    }
+
+    private String export(TaskFileFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.export(format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,120 @@
+package com.camelcase.taskapi.service;
+
+import com.camelcase.taskapi.cache.TaskCache;
+import com.camelcase.taskapi.dto.ImportLineError;
+import com.camelcase.taskapi.dto.ImportResult;
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.mapper.TaskMapperImpl;
+import com.camelcase.taskapi.model.entity.TaskEntity;
+import com.camelcase.taskapi.repository.TaskRepository;
+import com.camelcase.taskapi.search.TaskSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = { "tasks.batch.chunk-size=2", "tasks.import.max-errors=2", "tasks.import.max-line-length=400" })
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ TaskImportService.class, TaskBatchService.class, TaskCounters.class, TaskCache.class, TaskSearchIndex.class, TaskMapperImpl.class,
+        LocalValidatorFactoryBean.class, TaskImportServiceTest.CacheTestConfig.class })
+public class TaskImportServiceTest {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @TestConfiguration
+    static class CacheTestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(TaskCache.NAME);
+        }
+    }
+
+    @Test
+    public void testImportNdjsonReportsBadLines() throws Exception {
+        String body = """
+                {"title":"First task","taskStatus":"pending","dueDate":"2030-01-01"}
+                {"title":"x","taskStatus":"pending"}
+
+                {"title":"Second task","taskStatus":"completed","dueDate":"2030-01-02"}
+                not json
+                {"title":"Third task","taskStatus":"in_progress","dueDate":"2030-01-03"}
+                """;
+
+        ImportResult result = importBody(TaskFileFormat.NDJSON, body);
+
+        assertThat(result.getReceived()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportLineError::getLine).containsExactly(2L, 5L);
+        assertThat(taskRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    public void testImportCsvWithQuotedLineBreaks() throws Exception {
+        String body = "title,description,taskStatus,dueDate\r\n"
+                + "Quoted task,\"Line one\nline \"\"two\"\", with comma\",pending,2030-01-01\r\n"
+                + "Bad status,,unknown,2030-01-01\r\n"
+                + "Plain task,,completed,2030-01-01\r\n";
+
+        ImportResult result = importBody(TaskFileFormat.CSV, body);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportLineError::getLine).containsExactly(4L);
+        TaskEntity quoted = taskRepository.findAll().stream()
+                .filter(task -> task.getTitle().equals("Quoted task"))
+                .findFirst().orElseThrow();
+        assertThat(quoted.getDescription()).isEqualTo("Line one\nline \"two\", with comma");
+    }
+
+    @Test
+    public void testOverlongDescriptionIsRejected() throws Exception {
+        String body = "{\"title\":\"Long description\",\"description\":\"" + "a".repeat(256) + "\",\"taskStatus\":\"pending\",\"dueDate\":\"2030-01-01\"}\n"
+                + "{\"title\":\"Good task\",\"taskStatus\":\"pending\",\"dueDate\":\"2030-01-01\"}\n";
+
+        ImportResult result = importBody(TaskFileFormat.NDJSON, body);
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ImportLineError::getLine).containsExactly(1L);
+    }
+
+    @Test
+    public void testErrorReportIsCapped() throws Exception {
+        String longLine = "{\"title\":\"" + "a".repeat(500) + "\"}";
+        String body = "bad\nbad\n" + longLine + "\n{\"title\":\"Good task\",\"taskStatus\":\"pending\",\"dueDate\":\"2030-01-01\"}\n";
+
+        ImportResult result = importBody(TaskFileFormat.NDJSON, body);
+
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.isErrorsTruncated()).isTrue();
+        assertThat(result.getImported()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCsvHeaderIsRequired() {
+        assertThrows(BadRequestException.class, () -> importBody(TaskFileFormat.CSV, "name,status\nx,y\n"));
+    }
+
+    private ImportResult importBody(TaskFileFormat format, String body) throws Exception {
+        return taskImportService.importTasks(format, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
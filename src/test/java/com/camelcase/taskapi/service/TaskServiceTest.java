@@ -1,5 +1,8 @@
 package com.camelcase.taskapi.service;
 
+import com.camelcase.taskapi.cache.TaskCache;
+import com.camelcase.taskapi.exception.BadRequestException;
+import com.camelcase.taskapi.exception.PreconditionFailedException;
 import com.camelcase.taskapi.exception.ResourceNotFoundException;
 import com.camelcase.taskapi.mapper.TaskMapper;
 import com.camelcase.taskapi.model.Task;
@@ -8,22 +11,33 @@ import com.camelcase.taskapi.model.TaskUpdateRequest;
 import com.camelcase.taskapi.model.entity.TaskEntity;
 import com.camelcase.taskapi.model.entity.TaskStatusEnum;
 import com.camelcase.taskapi.repository.TaskRepository;
+import com.camelcase.taskapi.repository.TaskStatusVersion;
+import com.camelcase.taskapi.search.TaskSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 public class TaskServiceTest {
@@ -34,12 +48,21 @@ public class TaskServiceTest {
     @Mock
     private TaskMapper taskMapper;
 
-    @InjectMocks
+    @Mock
+    private TaskCounters taskCounters;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
     private TaskService taskService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        taskService = new TaskService(taskRepository, taskMapper, taskCounters, taskCache, taskSearchIndex, 100);
     }
 
     @Test
@@ -74,6 +97,97 @@ public class TaskServiceTest {
         verify(taskRepository, times(1)).findByTaskStatus(any(TaskStatusEnum.class), any(Pageable.class));
     }
 
+    @Test
+    public void testFindAllWithoutTotals() {
+        Slice<TaskEntity> taskSlice = new SliceImpl<>(Arrays.asList(new TaskEntity()), PageRequest.of(0, 1), true);
+        when(taskRepository.findAllBy(any(Pageable.class))).thenReturn(taskSlice);
+        when(taskMapper.toDto(any(TaskEntity.class))).thenReturn(new Task());
+
+        Slice<Task> result = taskService.findAll(1, 1, null, TotalsMode.NONE);
+
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        verify(taskRepository, never()).findAll(any(Pageable.class));
+        verify(taskRepository, never()).count();
+    }
+
+    @Test
+    public void testFindAllWithEstimatedTotals() {
+        Slice<TaskEntity> taskSlice = new SliceImpl<>(Arrays.asList(new TaskEntity()), PageRequest.of(0, 1), true);
+        when(taskRepository.findSliceByTaskStatus(eq(TaskStatusEnum.PENDING), any(Pageable.class))).thenReturn(taskSlice);
+        when(taskMapper.toDto(any(TaskEntity.class))).thenReturn(new Task());
+        when(taskCounters.count(TaskStatusEnum.PENDING)).thenReturn(42L);
+
+        Slice<Task> result = taskService.findAll(1, 1, "PENDING", TotalsMode.ESTIMATED);
+
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<Task>) result).getTotalElements()).isEqualTo(42);
+        verify(taskRepository, never()).countByTaskStatus(any(TaskStatusEnum.class));
+    }
+
+    @Test
+    public void testFindAllFilteredSkipsCount() {
+        Slice<TaskEntity> taskSlice = new SliceImpl<>(Arrays.asList(new TaskEntity()), PageRequest.of(0, 10), true);
+        when(taskRepository.findProjected(eq(Set.of("title")), any(), any(Pageable.class))).thenReturn(taskSlice);
+        when(taskMapper.toDto(any(TaskEntity.class))).thenReturn(new Task());
+
+        TaskFilter filter = TaskFilter.fromParams(null, null, null, null, null);
+        Slice<Task> result = taskService.findAll(filter, 1, 10, TotalsMode.NONE, Set.of("title"));
+
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        verify(taskRepository, never()).count();
+        verify(taskRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    public void testFindAllFilteredExactTotals() {
+        Slice<TaskEntity> taskSlice = new SliceImpl<>(Arrays.asList(new TaskEntity()), PageRequest.of(0, 10), false);
+        when(taskRepository.findProjected(any(), any(), any(Pageable.class))).thenReturn(taskSlice);
+        when(taskRepository.count(any(Specification.class))).thenReturn(1L);
+        when(taskMapper.toDto(any(TaskEntity.class))).thenReturn(new Task());
+
+        TaskFilter filter = TaskFilter.fromParams(List.of("pending"), null, null, null, null);
+        Slice<Task> result = taskService.findAll(filter, 1, 10, TotalsMode.EXACT, Set.of("id"));
+
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<Task>) result).getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFindAllFilteredEstimatedTotalsSumsStatuses() {
+        Slice<TaskEntity> taskSlice = new SliceImpl<>(Arrays.asList(new TaskEntity()), PageRequest.of(0, 10), true);
+        when(taskRepository.findProjected(any(), any(), any(Pageable.class))).thenReturn(taskSlice);
+        when(taskCounters.count(TaskStatusEnum.PENDING)).thenReturn(40L);
+        when(taskCounters.count(TaskStatusEnum.COMPLETED)).thenReturn(2L);
+        when(taskMapper.toDto(any(TaskEntity.class))).thenReturn(new Task());
+
+        TaskFilter filter = TaskFilter.fromParams(List.of("pending", "completed"), null, null, null, null);
+        Slice<Task> result = taskService.findAll(filter, 1, 10, TotalsMode.ESTIMATED, null);
+
+        assertThat(((Page<Task>) result).getTotalElements()).isEqualTo(42);
+        verify(taskRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    public void testPageSizeIsBounded() {
+        TaskFilter filter = TaskFilter.fromParams(null, null, null, null, null);
+
+        assertThrows(BadRequestException.class, () -> taskService.findAll(1, 101, null));
+        assertThrows(BadRequestException.class, () -> taskService.findAll(1, 0, null, TotalsMode.NONE));
+        assertThrows(BadRequestException.class, () -> taskService.findAll(filter, 1, 101, TotalsMode.NONE, null));
+        assertThrows(BadRequestException.class, () -> taskService.findAfter(null, 101, null));
+        assertThrows(BadRequestException.class, () -> taskService.findAfter(filter, null, 101, null));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    public void testFindAfterRejectsNonIdSort() {
+        TaskFilter filter = TaskFilter.fromParams(null, null, null, null, "-id");
+
+        assertThrows(BadRequestException.class, () -> taskService.findAfter(filter, null, 10, null));
+    }
+
     @Test
     public void testGet() {
         TaskEntity taskEntity = new TaskEntity();
@@ -84,6 +198,35 @@ public class TaskServiceTest {
 
         assertThat(result).isNotNull();
         verify(taskRepository, times(1)).findById(anyLong());
+        verify(taskCache, times(1)).put(eq(1L), eq(result), anyLong());
+    }
+
+    @Test
+    public void testGetFromCache() {
+        Task cached = new Task();
+        when(taskCache.get(1L)).thenReturn(cached);
+
+        Task result = taskService.get("1");
+
+        assertThat(result).isSameAs(cached);
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void testGetAllLoadsCacheMissesInOneQuery() {
+        Task cached = new Task();
+        TaskEntity taskEntity = new TaskEntity();
+        taskEntity.setId(2L);
+        Task loaded = new Task();
+        when(taskCache.get(1L)).thenReturn(cached);
+        when(taskRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(taskEntity));
+        when(taskMapper.toDto(taskEntity)).thenReturn(loaded);
+
+        Map<Long, Task> result = taskService.getAll(List.of(1L, 2L, 3L));
+
+        assertThat(result).containsOnly(entry(1L, cached), entry(2L, loaded));
+        verify(taskRepository, times(1)).findAllById(List.of(2L, 3L));
+        verify(taskCache, times(1)).put(eq(2L), eq(loaded), anyLong());
     }
 
     @Test
@@ -103,6 +246,7 @@ public class TaskServiceTest {
         request.setDueDate(null);
 
         TaskEntity taskEntity = new TaskEntity();
+        taskEntity.setTaskStatus(TaskStatusEnum.PENDING);
         when(taskRepository.save(any(TaskEntity.class))).thenReturn(taskEntity);
         when(taskMapper.toDto(any(TaskEntity.class))).thenReturn(new Task());
 
@@ -110,40 +254,96 @@ public class TaskServiceTest {
 
         assertThat(result).isNotNull();
         verify(taskRepository, times(1)).save(any(TaskEntity.class));
+        verify(taskCounters, times(1)).increment(TaskStatusEnum.PENDING);
     }
 
     @Test
     public void testDelete() {
-        when(taskRepository.existsById(anyLong())).thenReturn(true);
+        when(taskRepository.findTaskStatusAndVersionById(anyLong())).thenReturn(Optional.of(statusVersion(TaskStatusEnum.COMPLETED, 2)));
+        when(taskRepository.deleteTaskByIdAndVersion(anyLong(), anyLong())).thenReturn(1);
 
         taskService.delete("1");
 
-        verify(taskRepository, times(1)).deleteById(anyLong());
+        verify(taskRepository, times(1)).deleteTaskByIdAndVersion(1L, 2L);
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskCache, times(1)).evict(1L);
+        verify(taskCounters, times(1)).decrement(TaskStatusEnum.COMPLETED);
     }
 
     @Test
     public void testDeleteNotFound() {
-        when(taskRepository.existsById(anyLong())).thenReturn(false);
+        when(taskRepository.findTaskStatusAndVersionById(anyLong())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.delete("1"));
+        verify(taskRepository, never()).deleteTaskByIdAndVersion(anyLong(), anyLong());
+    }
+
+    @Test
+    public void testDeleteRemovedConcurrently() {
+        when(taskRepository.findTaskStatusAndVersionById(anyLong()))
+                .thenReturn(Optional.of(statusVersion(TaskStatusEnum.PENDING, 0)), Optional.empty());
+        when(taskRepository.deleteTaskByIdAndVersion(anyLong(), anyLong())).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.delete("1"));
-        verify(taskRepository, times(1)).existsById(anyLong());
+        verify(taskCounters, never()).decrement(any());
+    }
+
+    @Test
+    public void testDeleteWithStaleVersion() {
+        when(taskRepository.findTaskStatusAndVersionById(anyLong())).thenReturn(Optional.of(statusVersion(TaskStatusEnum.PENDING, 3)));
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.delete("1", 2L));
+        verify(taskRepository, never()).deleteTaskByIdAndVersion(anyLong(), anyLong());
+        verify(taskCounters, never()).decrement(any());
+    }
+
+    @Test
+    public void testDeleteChangedConcurrently() {
+        when(taskRepository.findTaskStatusAndVersionById(anyLong()))
+                .thenReturn(Optional.of(statusVersion(TaskStatusEnum.PENDING, 2)), Optional.of(statusVersion(TaskStatusEnum.COMPLETED, 3)));
+        when(taskRepository.deleteTaskByIdAndVersion(1L, 2L)).thenReturn(0);
+        when(taskRepository.deleteTaskByIdAndVersion(1L, 3L)).thenReturn(1);
+
+        taskService.delete("1");
+
+        verify(taskCounters, times(1)).decrement(TaskStatusEnum.COMPLETED);
+        assertThrows(PreconditionFailedException.class, () -> taskService.delete("1", 2L));
+    }
+
+    @Test
+    public void testDeleteGivesUpOnHotRow() {
+        when(taskRepository.findTaskStatusAndVersionById(anyLong())).thenReturn(Optional.of(statusVersion(TaskStatusEnum.PENDING, 2)));
+        when(taskRepository.deleteTaskByIdAndVersion(anyLong(), anyLong())).thenReturn(0);
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.delete("1"));
+        verify(taskRepository, times(TaskService.MAX_WRITE_ATTEMPTS)).deleteTaskByIdAndVersion(1L, 2L);
+        verify(taskCache, never()).evict(anyLong());
+        verify(taskCounters, never()).decrement(any());
     }
 
     @Test
     public void testUpdate() {
         TaskUpdateRequest request = new TaskUpdateRequest();
         request.setTitle("Updated Task");
+        request.setTaskStatus(TaskUpdateRequest.TaskStatusEnum.COMPLETED);
 
         TaskEntity taskEntity = new TaskEntity();
+        taskEntity.setTaskStatus(TaskStatusEnum.PENDING);
+        taskEntity.setVersion(3L);
         when(taskRepository.findById(anyLong())).thenReturn(Optional.of(taskEntity));
-        when(taskRepository.save(any(TaskEntity.class))).thenReturn(taskEntity);
+        when(taskRepository.updatePartially(anyLong(), any(), any(), any(), any(), any(), any())).thenReturn(1);
         when(taskMapper.toDto(any(TaskEntity.class))).thenReturn(new Task());
 
         Task result = taskService.update("1", request);
 
         assertThat(result).isNotNull();
-        verify(taskRepository, times(1)).findById(anyLong());
-        verify(taskRepository, times(1)).save(any(TaskEntity.class));
+        assertThat(result.getVersion()).isEqualTo(4L);
+        assertThat(result.getUpdatedAt()).isNotNull();
+        verify(taskRepository, times(1)).updatePartially(eq(1L), eq(3L), any(), eq("Updated Task"), isNull(), eq(TaskStatusEnum.COMPLETED), isNull());
+        verify(taskRepository, never()).save(any(TaskEntity.class));
+        verify(taskMapper, times(1)).updateDto(request, result);
+        verify(taskCache, times(1)).evict(1L);
+        verify(taskCounters, times(1)).move(TaskStatusEnum.PENDING, TaskStatusEnum.COMPLETED);
     }
 
     @Test
@@ -155,15 +355,101 @@ public class TaskServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.update("1", request));
         verify(taskRepository, times(1)).findById(anyLong());
+        verify(taskRepository, never()).updatePartially(anyLong(), any(), any(), any(), any(), any(), any());
+        verify(taskCache, never()).evict(anyLong());
+    }
+
+    @Test
+    public void testUpdateRetriesAfterConcurrentWrite() {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle("Updated Task");
+
+        TaskEntity stale = new TaskEntity();
+        stale.setTaskStatus(TaskStatusEnum.PENDING);
+        stale.setVersion(3L);
+        TaskEntity current = new TaskEntity();
+        current.setTaskStatus(TaskStatusEnum.IN_PROGRESS);
+        current.setVersion(4L);
+        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(stale), Optional.of(current));
+        when(taskRepository.updatePartially(anyLong(), eq(3L), any(), any(), any(), any(), any())).thenReturn(0);
+        when(taskRepository.updatePartially(anyLong(), eq(4L), any(), any(), any(), any(), any())).thenReturn(1);
+        when(taskMapper.toDto(any(TaskEntity.class))).thenReturn(new Task());
+
+        Task result = taskService.update("1", request);
+
+        assertThat(result.getVersion()).isEqualTo(5L);
+        verify(taskRepository, times(2)).findById(1L);
+        verify(taskCounters, times(1)).move(TaskStatusEnum.IN_PROGRESS, TaskStatusEnum.IN_PROGRESS);
+    }
+
+    @Test
+    public void testUpdateGivesUpOnHotRow() {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle("Updated Task");
+
+        TaskEntity taskEntity = new TaskEntity();
+        taskEntity.setTaskStatus(TaskStatusEnum.PENDING);
+        taskEntity.setVersion(3L);
+        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(taskEntity));
+        when(taskRepository.updatePartially(anyLong(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.update("1", request));
+        verify(taskRepository, times(TaskService.MAX_WRITE_ATTEMPTS)).updatePartially(anyLong(), eq(3L), any(), any(), any(), any(), any());
+        verify(taskCache, never()).evict(anyLong());
+    }
+
+    @Test
+    public void testUpdateWithStaleVersion() {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle("Updated Task");
+
+        TaskEntity taskEntity = new TaskEntity();
+        taskEntity.setTaskStatus(TaskStatusEnum.PENDING);
+        taskEntity.setVersion(4L);
+        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(taskEntity));
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.update("1", request, 3L));
+        verify(taskRepository, never()).updatePartially(anyLong(), any(), any(), any(), any(), any(), any());
+        verify(taskCache, never()).evict(anyLong());
+    }
+
+    @Test
+    public void testUpdateWithExpectedVersionLosesRace() {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle("Updated Task");
+
+        TaskEntity before = new TaskEntity();
+        before.setVersion(3L);
+        TaskEntity after = new TaskEntity();
+        after.setVersion(4L);
+        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(before), Optional.of(after));
+        when(taskRepository.updatePartially(anyLong(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.update("1", request, 3L));
+        verify(taskRepository, times(1)).updatePartially(anyLong(), eq(3L), any(), any(), any(), any(), any());
     }
 
     @Test
     public void testCountTasks() {
-        when(taskRepository.countByTaskStatus(any(TaskStatusEnum.class))).thenReturn(5L);
+        when(taskCounters.count(TaskStatusEnum.COMPLETED)).thenReturn(5L);
+        when(taskCounters.total()).thenReturn(12L);
 
-        int result = taskService.countTasks("COMPLETED");
+        assertThat(taskService.countTasks("COMPLETED")).isEqualTo(5);
+        assertThat(taskService.countTasks(null)).isEqualTo(12);
+        verifyNoInteractions(taskRepository);
+    }
 
-        assertThat(result).isEqualTo(5);
-        verify(taskRepository, times(1)).countByTaskStatus(any(TaskStatusEnum.class));
+    private static TaskStatusVersion statusVersion(TaskStatusEnum status, long version) {
+        return new TaskStatusVersion() {
+            @Override
+            public TaskStatusEnum getTaskStatus() {
+                return status;
+            }
+
+            @Override
+            public long getVersion() {
+                return version;
+            }
+        };
     }
-}
\ No newline at end of file
+}